@@ -0,0 +1,209 @@
+package org.group8;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import org.group8.controller.HeadlessController;
+import org.group8.controller.ReplicationRunner;
+import org.group8.controller.ReplicationSummary;
+import org.group8.controller.SweepDesign;
+import org.group8.controller.SweepFactor;
+import org.group8.controller.SweepRunner;
+import org.group8.dao.SimulationResultsDao;
+import org.group8.distributions.UniformSource;
+import org.group8.distributions.VariateMethod;
+import org.group8.simulator.framework.EventQueueType;
+import org.group8.simulator.framework.Trace;
+import org.group8.simulator.model.OutputStatistic;
+import org.group8.simulator.model.SimulationConfig;
+import org.group8.simulator.model.SimulationResults;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The main class for running the Healthcenter simulation without the graphical user interface.
+ * The simulation runs as fast as possible and the results are written as CSV.
+ * With several replications, the replications run in parallel and a summary with
+ * confidence intervals is printed to the standard error, apart from the CSV.
+ * <p>
+ * With {@code --sweep}, a parameter sweep runs instead: every design point runs the replications, and one row
+ * with the means of the replications is written per point, and persisted in batches with {@code --persist}.
+ * <p>
+ * Usage: {@code HeadlessMain --time <time> [--seed <seed>] [--replications <n>] [--threads <n>]
+ * [--event-queue heap|calendar] [--servers <event>=<n>,...] [--warmup <time>] [--detect-warmup]
+ * [--batches <k>] [--target-precision <relative half-width>] [--precision-statistic <statistic>]
+ * [--checkpoint <time>] [--sweep grid|full-factorial|latin-hypercube --factor <name>=<min>:<max>:<levels> ...
+ * [--samples <n>] [--persist-batch <n>]] [--rng lcg|splitmix64|l64x128mix|xoshiro256pp] [--variates ziggurat|transform]
+ * [--output <path>] [--persist]}
+ */
+public class HeadlessMain {
+
+    private static final String USAGE =
+            "Usage: java org.group8.HeadlessMain --time <time> [--seed <seed>] [--replications <n>] [--threads <n>]"
+                    + " [--event-queue heap|calendar] [--servers <event>=<n>,...] [--warmup <time>] [--detect-warmup]"
+                    + " [--batches <k>] [--target-precision <relative half-width>] [--precision-statistic <statistic>]"
+                    + " [--checkpoint <time>] [--sweep grid|full-factorial|latin-hypercube"
+                    + " --factor <name>=<min>:<max>:<levels> ... [--samples <n>] [--persist-batch <n>]]"
+                    + " [--rng lcg|splitmix64|l64x128mix|xoshiro256pp] [--variates ziggurat|transform]"
+                    + " [--output <path>] [--persist]";
+
+    /**
+     * The main method which is the entry point for headless runs
+     * @param args The command line arguments
+     */
+    public static void main(String[] args) {
+        double time = -1;
+        long seed = System.nanoTime();
+        int replications = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        EventQueueType eventQueueType = EventQueueType.HEAP;
+        Map<String, Integer> servers = new HashMap<>();
+        double warmUp = 0;
+        boolean detectWarmUp = false;
+        int batches = 0;
+        double targetPrecision = 0;
+        OutputStatistic precisionStatistic = OutputStatistic.TIME_IN_SYSTEM;
+        double checkpoint = 0;
+        SweepDesign sweep = null;
+        List<SweepFactor> factors = new ArrayList<>();
+        int samples = 10;
+        int persistBatch = SimulationResultsDao.FLUSH_INTERVAL;
+        UniformSource rng = UniformSource.SPLITMIX64;
+        VariateMethod variates = VariateMethod.ZIGGURAT;
+        String output = null;
+        boolean persist = false;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--time" -> time = Double.parseDouble(args[++i]);
+                    case "--seed" -> seed = Long.parseLong(args[++i]);
+                    case "--replications" -> replications = Integer.parseInt(args[++i]);
+                    case "--threads" -> threads = Integer.parseInt(args[++i]);
+                    case "--event-queue" -> eventQueueType = EventQueueType.valueOf(args[++i].toUpperCase());
+                    case "--servers" -> servers.putAll(parseServerCounts(args[++i]));
+                    case "--warmup" -> warmUp = Double.parseDouble(args[++i]);
+                    case "--detect-warmup" -> detectWarmUp = true;
+                    case "--batches" -> batches = Integer.parseInt(args[++i]);
+                    case "--target-precision" -> targetPrecision = Double.parseDouble(args[++i]);
+                    case "--precision-statistic" -> precisionStatistic = OutputStatistic.parse(args[++i]);
+                    case "--checkpoint" -> checkpoint = Double.parseDouble(args[++i]);
+                    case "--sweep" -> sweep = SweepDesign.valueOf(args[++i].toUpperCase().replace('-', '_'));
+                    case "--factor" -> factors.add(SweepFactor.parse(args[++i]));
+                    case "--samples" -> samples = Integer.parseInt(args[++i]);
+                    case "--persist-batch" -> persistBatch = Integer.parseInt(args[++i]);
+                    case "--rng" -> rng = UniformSource.parse(args[++i]);
+                    case "--variates" -> variates = VariateMethod.parse(args[++i]);
+                    case "--output" -> output = args[++i];
+                    case "--persist" -> persist = true;
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println(e.getMessage() == null ? "Missing option value" : e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        if (time <= 0 || replications < 1 || threads < 1 || !(warmUp >= 0) || warmUp >= time
+                || batches < 0 || batches == 1 || !(targetPrecision >= 0) || (targetPrecision > 0 && batches == 0)
+                || !(checkpoint >= 0) || (sweep != null) == factors.isEmpty() || samples < 1 || persistBatch < 1
+                || (rng == UniformSource.LCG && replications > UniformSource.LCG_MAX_REPLICATIONS)) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        // load env variables (you need to create a .env file in the root of the project)
+        Dotenv dotenv = Dotenv.load();
+        System.setProperty("JDBC_URL", dotenv.get("JDBC_URL"));
+        System.setProperty("JDBC_USER", dotenv.get("JDBC_USER"));
+        System.setProperty("JDBC_PASSWORD", dotenv.get("JDBC_PASSWORD"));
+
+        // run the simulation without tracing every event
+        Trace.setTraceLevel(Trace.Level.ERR);
+        HeadlessController controller = new HeadlessController();
+        controller.setEventQueueType(eventQueueType);
+        controller.setServerCounts(servers);
+        controller.setWarmUpTime(warmUp);
+        controller.setWarmUpDetection(detectWarmUp);
+        controller.setBatchCount(batches);
+        controller.setTargetRelativeHalfWidth(targetPrecision);
+        controller.setPrecisionStatistic(precisionStatistic);
+        controller.setCheckpointInterval(checkpoint);
+        controller.setUniformSource(rng);
+        controller.setVariateMethod(variates);
+        List<SimulationResults> results;
+        ReplicationSummary summary = null;
+        if (sweep != null) {
+            List<SimulationResults> sweepResults = new ArrayList<>();
+            List<Map<String, Double>> points = sweep.points(factors, samples, seed);
+            boolean persistRows = persist;
+            new SweepRunner(controller, threads).run(points, replications, time, seed, persistBatch, rows -> {
+                if (persistRows) {
+                    controller.persistAllSimulationResults(rows);
+                }
+                sweepResults.addAll(rows);
+            });
+            results = sweepResults;
+        } else if (replications == 1) {
+            results = List.of(controller.runSimulation(time, seed));
+        } else {
+            summary = new ReplicationRunner(controller, threads).runAndSummarize(replications, time, seed);
+            results = summary.getResults();
+        }
+        if (persist && sweep == null) {
+            results.forEach(controller::persistSimulationResults);
+        }
+
+        try {
+            writeResults(results, output);
+        } catch (IOException e) {
+            System.err.println("Could not write results: " + e.getMessage());
+            System.exit(1);
+        }
+        if (summary != null) {
+            System.err.print(summary);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Parses server counts given as comma separated {@code event=count} pairs, e.g. {@code doctor=4,lab=2}.
+     * @param text The server counts
+     * @return The number of servers by event name
+     */
+    private static Map<String, Integer> parseServerCounts(String text) {
+        Map<String, Integer> servers = new HashMap<>();
+        for (String pair : text.split(",")) {
+            String[] parts = pair.split("=");
+            if (parts.length != 2 || !List.of(SimulationConfig.EVENTS).contains(parts[0].trim())
+                    || Integer.parseInt(parts[1].trim()) < 1) {
+                throw new IllegalArgumentException("Invalid server count " + pair);
+            }
+            servers.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return servers;
+    }
+
+    /**
+     * Writes the results as CSV to the given file, or to the standard output if no file is given.
+     * @param results The results to write, one line per run
+     * @param output The output path, or {@code null} for the standard output
+     * @throws IOException if the file cannot be written
+     */
+    private static void writeResults(List<SimulationResults> results, String output) throws IOException {
+        if (output == null) {
+            System.out.println(SimulationResults.csvHeader());
+            results.forEach(r -> System.out.println(r.toCsvRow()));
+            return;
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(Path.of(output)))) {
+            writer.println(SimulationResults.csvHeader());
+            results.forEach(r -> writer.println(r.toCsvRow()));
+        }
+    }
+}
@@ -110,4 +110,13 @@ public class DataController implements IDataControlller {
     public void persistSimulationResults(SimulationResults simulationResults) {
         simulationResultsDao.persist(simulationResults);
     }
+
+    /**
+     * Persists the given simulation results in one transaction.
+     * @param simulationResults The simulation results to persist
+     */
+    @Override
+    public void persistAllSimulationResults(List<SimulationResults> simulationResults) {
+        simulationResultsDao.persistAll(simulationResults);
+    }
 }
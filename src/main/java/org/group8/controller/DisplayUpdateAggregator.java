@@ -0,0 +1,147 @@
+package org.group8.controller;
+
+import org.group8.view.IHealthcenterGUI;
+import org.group8.view.IVisualization;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The DisplayUpdateAggregator class collects the display updates of a running simulation and
+ * applies them to the GUI in batches.
+ * <p>
+ * The simulation thread only counts the patients entering and leaving every service point and
+ * records the current simulation time, without creating any tasks for the JavaFX application thread.
+ * The application thread calls {@link #publish()} once per animation pulse, which brings the canvases
+ * and the progress bar up to date with a single snapshot, however many events happened in between.
+ */
+public class DisplayUpdateAggregator {
+
+    /**
+     * The service points shown in the GUI.
+     */
+    public enum Station {CHECK_IN, DOCTOR, LAB, XRAY, TREATMENT}
+
+    // the number of patient icons drawn or removed per station and pulse, the rest follows in later pulses
+    private static final int MAX_CHANGES_PER_PULSE = 100;
+
+    private static final Station[] STATIONS = Station.values();
+
+    private final IHealthcenterGUI gui;
+    private final double endTime;
+
+    // written by the simulation thread only
+    private final AtomicIntegerArray patients = new AtomicIntegerArray(STATIONS.length);
+    private final AtomicLong currentTime = new AtomicLong(Double.doubleToRawLongBits(0.0));
+
+    // read and written by the JavaFX application thread only
+    private final int[] displayedPatients = new int[STATIONS.length];
+    private double displayedTime = -1;
+
+    /**
+     * Constructs a DisplayUpdateAggregator for the specified GUI.
+     * @param gui The health center GUI
+     * @param endTime The simulation time at which the simulation ends
+     */
+    public DisplayUpdateAggregator(IHealthcenterGUI gui, double endTime) {
+        this.gui = gui;
+        this.endTime = endTime;
+    }
+
+    /**
+     * Records a patient entering the given service point. Called by the simulation thread.
+     * @param station The service point
+     */
+    public void patientAdded(Station station) {
+        int index = station.ordinal();
+        patients.setRelease(index, patients.getPlain(index) + 1);
+    }
+
+    /**
+     * Records a patient leaving the given service point. Called by the simulation thread.
+     * @param station The service point
+     */
+    public void patientRemoved(Station station) {
+        int index = station.ordinal();
+        patients.setRelease(index, patients.getPlain(index) - 1);
+    }
+
+    /**
+     * Records the current simulation time. Called by the simulation thread.
+     * @param time The current simulation time
+     */
+    public void updateTime(double time) {
+        currentTime.setRelease(Double.doubleToRawLongBits(time));
+    }
+
+    /**
+     * Applies the changes since the last call to the canvases and the progress bar, at most
+     * a bounded number of patient icons per station. Must be called by the JavaFX application thread.
+     */
+    public void publish() {
+        publish(MAX_CHANGES_PER_PULSE);
+    }
+
+    /**
+     * Applies all pending changes to the canvases and the progress bar, however many there are,
+     * e.g. to show the final state when the simulation ends. Must be called by the JavaFX application thread.
+     */
+    public void publishAll() {
+        publish(Integer.MAX_VALUE);
+    }
+
+    private void publish(int maxChanges) {
+        for (Station station : STATIONS) {
+            int index = station.ordinal();
+            int change = patients.getAcquire(index) - displayedPatients[index];
+            if (change == 0) {
+                continue;
+            }
+            IVisualization canvas = canvasOf(station);
+            int count = Math.min(Math.abs(change), maxChanges);
+            for (int i = 0; i < count; i++) {
+                if (change > 0) {
+                    canvas.newPatient(iconOf(station));
+                } else {
+                    canvas.removePatient();
+                }
+            }
+            displayedPatients[index] += change > 0 ? count : -count;
+        }
+
+        double time = Double.longBitsToDouble(currentTime.getAcquire());
+        if (time != displayedTime) {
+            gui.updateProgressBar(time, endTime);
+            displayedTime = time;
+        }
+    }
+
+    /**
+     * Returns the number of patients displayed at the given service point.
+     * @param station The service point
+     * @return The number of displayed patients
+     */
+    public int getDisplayedPatients(Station station) {
+        return displayedPatients[station.ordinal()];
+    }
+
+    private IVisualization canvasOf(Station station) {
+        return switch (station) {
+            case CHECK_IN -> gui.getCheckInCanvas();
+            case DOCTOR -> gui.getDoctorCanvas();
+            case LAB -> gui.getLabCanvas();
+            case XRAY -> gui.getXrayCanvas();
+            case TREATMENT -> gui.getTreatmentCanvas();
+        };
+    }
+
+    private static String iconOf(Station station) {
+        return switch (station) {
+            case CHECK_IN -> "sick";
+            case DOCTOR -> "doctor";
+            case LAB -> "lab";
+            case XRAY -> "xray";
+            case TREATMENT -> "treatment";
+        };
+    }
+}
@@ -0,0 +1,262 @@
+package org.group8.controller;
+
+import org.group8.distributions.UniformSource;
+import org.group8.distributions.VariateMethod;
+import org.group8.simulator.framework.EventQueueType;
+import org.group8.simulator.model.HealthCentre;
+import org.group8.simulator.model.OutputStatistic;
+import org.group8.simulator.model.SimulationConfig;
+import org.group8.simulator.model.SimulationResults;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The HeadlessController class runs the health center simulation without a graphical user interface.
+ * All visualization callbacks are no-ops, the simulation runs without delay in the calling thread
+ * and the results of the run are returned to the caller.
+ */
+public class HeadlessController implements IControllerForP {
+
+    private final IDataControlller dataController;
+    private EventQueueType eventQueueType = EventQueueType.HEAP;
+    private Map<String, Integer> serverCounts = Map.of();
+    private double warmUpTime = 0;
+    private boolean warmUpDetection = false;
+    private int batchCount = 0;
+    private double targetRelativeHalfWidth = 0;
+    private OutputStatistic precisionStatistic = OutputStatistic.TIME_IN_SYSTEM;
+    private double checkpointInterval = 0;
+    private UniformSource uniformSource = UniformSource.SPLITMIX64;
+    private VariateMethod variateMethod = VariateMethod.ZIGGURAT;
+
+    /**
+     * Constructs a HeadlessController reading its configuration from the database.
+     */
+    public HeadlessController() {
+        this(new DataController());
+    }
+
+    /**
+     * Constructs a HeadlessController with the specified data controller.
+     * @param dataController The data controller providing distributions and probabilities
+     */
+    public HeadlessController(IDataControlller dataController) {
+        this.dataController = dataController;
+    }
+
+    /**
+     * Selects the event queue implementation of the simulations created by this controller.
+     * @param eventQueueType The event queue implementation
+     */
+    public void setEventQueueType(EventQueueType eventQueueType) {
+        this.eventQueueType = eventQueueType;
+    }
+
+    /**
+     * Sets the number of parallel servers of service points, which are not stored in the database.
+     * @param serverCounts The number of servers by event name, e.g. "doctor"; others have one server
+     */
+    public void setServerCounts(Map<String, Integer> serverCounts) {
+        this.serverCounts = Map.copyOf(serverCounts);
+    }
+
+    /**
+     * Sets the uniform random number generator of the simulations created by this controller.
+     * @param uniformSource The uniform random number generator
+     */
+    public void setUniformSource(UniformSource uniformSource) {
+        this.uniformSource = uniformSource;
+    }
+
+    /**
+     * Sets the sampling method of the exponential distributions of the simulations created by this controller.
+     * @param variateMethod The sampling method
+     */
+    public void setVariateMethod(VariateMethod variateMethod) {
+        this.variateMethod = variateMethod;
+    }
+
+    /**
+     * Sets the fixed warm-up time of the simulations created by this controller.
+     * @param warmUpTime The warm-up time after which the statistics are reset, 0 for none
+     */
+    public void setWarmUpTime(double warmUpTime) {
+        this.warmUpTime = warmUpTime;
+    }
+
+    /**
+     * Sets whether the simulations created by this controller detect the end of the warm-up with the MSER-5 rule.
+     * @param warmUpDetection {@code true} to detect the end of the warm-up
+     */
+    public void setWarmUpDetection(boolean warmUpDetection) {
+        this.warmUpDetection = warmUpDetection;
+    }
+
+    /**
+     * Sets the number of batches of the batch means confidence intervals of the simulations created by this controller.
+     * @param batchCount The number of batches, 0 for no batch means
+     */
+    public void setBatchCount(int batchCount) {
+        this.batchCount = batchCount;
+    }
+
+    /**
+     * Sets the output statistic whose interval decides when the simulations created by this controller stop early.
+     * @param precisionStatistic The output statistic
+     */
+    public void setPrecisionStatistic(OutputStatistic precisionStatistic) {
+        this.precisionStatistic = precisionStatistic;
+    }
+
+    /**
+     * Sets the simulation time between the precision checkpoints of the simulations created by this controller.
+     * @param checkpointInterval The time between checkpoints, 0 to check the precision at every batch
+     */
+    public void setCheckpointInterval(double checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Sets the relative half-width of the precision statistic interval at which the simulations stop early.
+     * @param targetRelativeHalfWidth The target relative half-width, 0 to always run to the end
+     */
+    public void setTargetRelativeHalfWidth(double targetRelativeHalfWidth) {
+        this.targetRelativeHalfWidth = targetRelativeHalfWidth;
+    }
+
+    /**
+     * Runs one simulation to completion in the calling thread.
+     * @param simulationTime The simulation time
+     * @param seed The root seed of the run
+     * @return The results of the run
+     */
+    public SimulationResults runSimulation(double simulationTime, long seed) {
+        HealthCentre centre = createSimulation(simulationTime, seed);
+
+        // Run the simulation loop directly instead of starting a new thread
+        centre.run();
+        return centre.getResults();
+    }
+
+    /**
+     * Loads a snapshot of the current configuration from the data controller, with the server counts
+     * and the random number generation of this controller.
+     * @return The configuration snapshot
+     */
+    public SimulationConfig loadConfig() {
+        return SimulationConfig.load(dataController).withServerCounts(serverCounts).withUniformSource(uniformSource)
+                .withVariateMethod(variateMethod);
+    }
+
+    /**
+     * Creates a simulation that runs without delay and does not persist its results.
+     * The configuration is read from the data controller here, so the returned simulation
+     * can be run in any thread without accessing the data controller again.
+     * @param simulationTime The simulation time
+     * @param seed The root seed of the run
+     * @return The simulation, ready to be run
+     */
+    public HealthCentre createSimulation(double simulationTime, long seed) {
+        return createSimulation(loadConfig(), simulationTime, seed);
+    }
+
+    /**
+     * Creates a simulation of the given configuration that runs without delay and does not persist its results.
+     * @param config The configuration snapshot
+     * @param simulationTime The simulation time
+     * @param seed The root seed of the run
+     * @return The simulation, ready to be run
+     */
+    public HealthCentre createSimulation(SimulationConfig config, double simulationTime, long seed) {
+        return createSimulation(config, simulationTime, seed, 0);
+    }
+
+    /**
+     * Creates one replication of an experiment that runs without delay and does not persist its results.
+     * The random streams of the replication are substreams of the seed, disjoint from those of the other replications.
+     * @param config The configuration snapshot
+     * @param simulationTime The simulation time
+     * @param seed The root seed of the experiment
+     * @param replication The index of the replication, from 0
+     * @return The simulation, ready to be run
+     */
+    public HealthCentre createSimulation(SimulationConfig config, double simulationTime, long seed, int replication) {
+        HealthCentre centre = new HealthCentre(this, dataController, config, seed, replication);
+        centre.setSimulationTime(simulationTime);
+        centre.setDelay(0);
+        centre.setEventQueueType(eventQueueType);
+        centre.setPersistResults(false);
+        centre.setWarmUpTime(warmUpTime);
+        centre.setWarmUpDetection(warmUpDetection);
+        centre.setBatchCount(batchCount);
+        centre.setTargetRelativeHalfWidth(targetRelativeHalfWidth);
+        centre.setPrecisionStatistic(precisionStatistic);
+        centre.setCheckpointInterval(checkpointInterval);
+        return centre;
+    }
+
+    /**
+     * Persists the given simulation results in one transaction.
+     * @param simulationResults The simulation results to persist
+     */
+    public void persistAllSimulationResults(List<SimulationResults> simulationResults) {
+        dataController.persistAllSimulationResults(simulationResults);
+    }
+
+    /**
+     * Persists the given simulation results.
+     * @param simulationResults The simulation results to persist
+     */
+    public void persistSimulationResults(SimulationResults simulationResults) {
+        dataController.persistSimulationResults(simulationResults);
+    }
+
+    @Override
+    public void addPatientToCheckInCanvas() {
+    }
+
+    @Override
+    public void addPatientToDoctorCanvas() {
+    }
+
+    @Override
+    public void addPatientToXRayCanvas() {
+    }
+
+    @Override
+    public void addPatientToLabCanvas() {
+    }
+
+    @Override
+    public void addPatientToTreatmentCanvas() {
+    }
+
+    @Override
+    public void removePatientFromCheckInCanvas() {
+    }
+
+    @Override
+    public void removePatientFromDoctorCanvas() {
+    }
+
+    @Override
+    public void removePatientFromXRayCanvas() {
+    }
+
+    @Override
+    public void removePatientFromLabCanvas() {
+    }
+
+    @Override
+    public void removePatientFromTreatmentCanvas() {
+    }
+
+    @Override
+    public void onSimulationEnd() {
+    }
+
+    @Override
+    public void updateProgressBar() {
+    }
+}
@@ -1,18 +1,23 @@
 package org.group8.controller;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
-import org.group8.simulator.framework.Clock;
+import org.group8.controller.DisplayUpdateAggregator.Station;
 import org.group8.simulator.framework.IHealthCentre;
 import org.group8.simulator.model.*;
 import org.group8.view.IHealthcenterGUI;
 
 /**
  * The HealthcenterController class is for managing the health center simulation.
+ * The display updates of the simulation thread are collected by a {@link DisplayUpdateAggregator}
+ * and shown once per animation pulse, so the GUI keeps up whatever the simulation speed.
  */
 public class HealthcenterController implements IControllerForP, IControllerForV {
 
     private IHealthcenterGUI gui;
     private IHealthCentre centre;
+    private DisplayUpdateAggregator displayUpdates;
+    private AnimationTimer displayTimer;
 
     /**
      * Constructs a HealthcenterController with the specified gui.
@@ -44,30 +49,40 @@ public class HealthcenterController implements IControllerForP, IControllerForV
         centre = new HealthCentre(this);
         centre.setSimulationTime(gui.getTime());
         centre.setDelay(gui.getDelay());
+        centre.setSpeedRatio(gui.getSpeedRatio());
 
-        // Adjust common parameters
-        Clock.getInstance().setTime(0);
-        Patient.reset();
+        // Every simulation has its own clock and patient statistics, only the displays are shared
         gui.clearDisplays();
+        startDisplayUpdates();
 
         // Start the simulation
         ((Thread) centre).start();
     }
 
     /**
-     * Speeds up the simulation.
+     * Speeds up the simulation, by raising the speed ratio of a paced simulation
+     * or by shortening the delay otherwise.
      */
     @Override
     public void speedUp() {
-        centre.setDelay((long) (centre.getDelay() * 0.9));
+        if (centre.getSpeedRatio() > 0) {
+            centre.setSpeedRatio(centre.getSpeedRatio() * 1.1);
+        } else {
+            centre.setDelay((long) (centre.getDelay() * 0.9));
+        }
     }
 
     /**
-     * Slows down the simulation.
+     * Slows down the simulation, by lowering the speed ratio of a paced simulation
+     * or by lengthening the delay otherwise.
      */
     @Override
     public void slowDown() {
-        centre.setDelay((long) (centre.getDelay() * 1.1));
+        if (centre.getSpeedRatio() > 0) {
+            centre.setSpeedRatio(centre.getSpeedRatio() * 0.9);
+        } else {
+            centre.setDelay((long) (centre.getDelay() * 1.1));
+        }
     }
 
     /**
@@ -75,7 +90,7 @@ public class HealthcenterController implements IControllerForP, IControllerForV
      */
     @Override
     public void addPatientToCheckInCanvas() {
-        Platform.runLater(() -> gui.getCheckInCanvas().newPatient("sick"));
+        displayUpdates.patientAdded(Station.CHECK_IN);
     }
 
     /**
@@ -83,7 +98,7 @@ public class HealthcenterController implements IControllerForP, IControllerForV
      */
     @Override
     public void addPatientToDoctorCanvas() {
-        Platform.runLater(() -> gui.getDoctorCanvas().newPatient("doctor"));
+        displayUpdates.patientAdded(Station.DOCTOR);
     }
 
     /**
@@ -91,7 +106,7 @@ public class HealthcenterController implements IControllerForP, IControllerForV
      */
     @Override
     public void addPatientToXRayCanvas() {
-        Platform.runLater(() -> gui.getXrayCanvas().newPatient("xray"));
+        displayUpdates.patientAdded(Station.XRAY);
     }
 
     /**
@@ -99,7 +114,7 @@ public class HealthcenterController implements IControllerForP, IControllerForV
      */
     @Override
     public void addPatientToLabCanvas() {
-        Platform.runLater(() -> gui.getLabCanvas().newPatient("lab"));
+        displayUpdates.patientAdded(Station.LAB);
     }
 
     /**
@@ -107,7 +122,7 @@ public class HealthcenterController implements IControllerForP, IControllerForV
      */
     @Override
     public void addPatientToTreatmentCanvas() {
-        Platform.runLater(() -> gui.getTreatmentCanvas().newPatient("treatment"));
+        displayUpdates.patientAdded(Station.TREATMENT);
     }
 
     /**
@@ -115,7 +130,7 @@ public class HealthcenterController implements IControllerForP, IControllerForV
      */
     @Override
     public void removePatientFromCheckInCanvas() {
-        Platform.runLater(() -> gui.getCheckInCanvas().removePatient());
+        displayUpdates.patientRemoved(Station.CHECK_IN);
     }
 
     /**
@@ -123,7 +138,7 @@ public class HealthcenterController implements IControllerForP, IControllerForV
      */
     @Override
     public void removePatientFromDoctorCanvas() {
-        Platform.runLater(() -> gui.getDoctorCanvas().removePatient());
+        displayUpdates.patientRemoved(Station.DOCTOR);
     }
 
     /**
@@ -131,7 +146,7 @@ public class HealthcenterController implements IControllerForP, IControllerForV
      */
     @Override
     public void removePatientFromXRayCanvas() {
-        Platform.runLater(() -> gui.getXrayCanvas().removePatient());
+        displayUpdates.patientRemoved(Station.XRAY);
     }
 
     /**
@@ -139,7 +154,7 @@ public class HealthcenterController implements IControllerForP, IControllerForV
      */
     @Override
     public void removePatientFromLabCanvas() {
-        Platform.runLater(() -> gui.getLabCanvas().removePatient());
+        displayUpdates.patientRemoved(Station.LAB);
     }
 
     /**
@@ -147,7 +162,7 @@ public class HealthcenterController implements IControllerForP, IControllerForV
      */
     @Override
     public void removePatientFromTreatmentCanvas() {
-        Platform.runLater(() -> gui.getTreatmentCanvas().removePatient());
+        displayUpdates.patientRemoved(Station.TREATMENT);
     }
 
     /**
@@ -171,6 +186,15 @@ public class HealthcenterController implements IControllerForP, IControllerForV
         centre.setDelay(delay);
     }
 
+    /**
+     * Sets the speed ratio for the simulation.
+     * @param ratio The simulation minutes per wall-clock second, or 0 to use the delay instead
+     */
+    @Override
+    public void setSpeedRatio(double ratio) {
+        centre.setSpeedRatio(ratio);
+    }
+
     /**
      * Stops the simulation.
      */
@@ -201,7 +225,12 @@ public class HealthcenterController implements IControllerForP, IControllerForV
      */
     @Override
     public void onSimulationEnd() {
+        DisplayUpdateAggregator updates = displayUpdates;
+        AnimationTimer timer = displayTimer;
         Platform.runLater(() -> {
+            // show the final state before the statistics
+            timer.stop();
+            updates.publishAll();
             gui.endSimulation();
             gui.showStatistics(centre.getStatistics());
 
@@ -210,12 +239,30 @@ public class HealthcenterController implements IControllerForP, IControllerForV
 
     /**
      * Updates the progress bar based on the current simulation time.
+     * The progress bar itself is updated with the next animation pulse.
      */
     @Override
     public void updateProgressBar() {
-        double currentTime = Clock.getInstance().getTime();
-        double totalTime = centre.getSimulationTime();
-        Platform.runLater(() -> gui.updateProgressBar(currentTime, totalTime));
+        displayUpdates.updateTime(centre.getCurrentTime());
+    }
+
+    /**
+     * Replaces the display updates of the previous simulation and starts publishing
+     * the updates of the new one on every animation pulse.
+     */
+    private void startDisplayUpdates() {
+        if (displayTimer != null) {
+            displayTimer.stop();
+        }
+        DisplayUpdateAggregator updates = new DisplayUpdateAggregator(gui, centre.getSimulationTime());
+        displayUpdates = updates;
+        displayTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                updates.publish();
+            }
+        };
+        displayTimer.start();
     }
 
 }
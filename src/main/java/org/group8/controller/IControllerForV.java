@@ -13,6 +13,7 @@ public interface IControllerForV {
     void setTime(int time);
     void showStatistics(String statistics);
     void setDelay(long delay);
+    void setSpeedRatio(double ratio);
     void stopSimulation();
     void resumeSimulation();
     boolean isRunning();
@@ -20,5 +20,6 @@ public interface IDataControlller {
     void setDefaultDistributions();
 
     void persistSimulationResults(SimulationResults simulationResults);
+    void persistAllSimulationResults(List<SimulationResults> simulationResults);
     List<SimulationResults> getSimulationResults();
 }
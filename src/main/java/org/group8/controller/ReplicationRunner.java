@@ -0,0 +1,92 @@
+package org.group8.controller;
+
+import org.group8.simulator.model.HealthCentre;
+import org.group8.simulator.model.SimulationConfig;
+import org.group8.simulator.model.SimulationResults;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * The ReplicationRunner class runs independent replications of the same configuration in parallel.
+ * Every replication is a separate {@link HealthCentre} with its own clock, event list, patient
+ * statistics and random streams, so the replications do not share any mutable state. The random streams
+ * of replication i are substreams of the root seed, which never overlap those of the other replications.
+ */
+public class ReplicationRunner {
+
+    private final HeadlessController controller;
+    private final int parallelism;
+
+    /**
+     * Constructs a ReplicationRunner using all available processors.
+     * @param controller The headless controller creating the simulations
+     */
+    public ReplicationRunner(HeadlessController controller) {
+        this(controller, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a ReplicationRunner with the given number of worker threads.
+     * @param controller The headless controller creating the simulations
+     * @param parallelism The number of worker threads
+     */
+    public ReplicationRunner(HeadlessController controller, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.controller = controller;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs the replications and returns the results of each of them, in replication order.
+     * @param replications The number of replications
+     * @param simulationTime The simulation time of every replication
+     * @param seed The root seed of the substreams of the replications
+     * @return The results of the replications
+     */
+    public List<SimulationResults> run(int replications, double simulationTime, long seed) {
+        if (replications < 1) {
+            throw new IllegalArgumentException("Number of replications must be positive: " + replications);
+        }
+
+        // The configuration is loaded once in the calling thread and shared by all replications
+        SimulationConfig config = controller.loadConfig();
+        List<HealthCentre> centres = new ArrayList<>();
+        for (int i = 0; i < replications; i++) {
+            centres.add(controller.createSimulation(config, simulationTime, seed, i));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ForkJoinTask<SimulationResults>> tasks = new ArrayList<>();
+            for (HealthCentre centre : centres) {
+                tasks.add(pool.submit(() -> {
+                    centre.run();
+                    return centre.getResults();
+                }));
+            }
+            List<SimulationResults> results = new ArrayList<>();
+            for (ForkJoinTask<SimulationResults> task : tasks) {
+                results.add(task.join());
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Runs the replications and combines their results into confidence intervals.
+     * @param replications The number of replications
+     * @param simulationTime The simulation time of every replication
+     * @param seed The root seed of the substreams of the replications
+     * @return The summary of the replications
+     */
+    public ReplicationSummary runAndSummarize(int replications, double simulationTime, long seed) {
+        return new ReplicationSummary(run(replications, simulationTime, seed), 0.95);
+    }
+}
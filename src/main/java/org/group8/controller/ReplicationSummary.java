@@ -0,0 +1,126 @@
+package org.group8.controller;
+
+import org.group8.simulator.model.SimulationResults;
+import org.group8.simulator.model.StationStatistics;
+import org.group8.simulator.statistics.ConfidenceInterval;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The ReplicationSummary class combines the results of independent replications into
+ * confidence intervals for the average time in the system and the utilization of every service point.
+ */
+public class ReplicationSummary {
+
+    private final List<SimulationResults> results;
+    private final ConfidenceInterval averageTime;
+    private final Map<String, ConfidenceInterval> utilizations = new LinkedHashMap<>();
+
+    /**
+     * Constructs the summary of the given replications.
+     * @param results The results of the replications
+     * @param confidence The confidence level of the intervals, e.g. 0.95
+     */
+    public ReplicationSummary(List<SimulationResults> results, double confidence) {
+        this.results = List.copyOf(results);
+        averageTime = interval(SimulationResults::getAverageTime, confidence);
+        utilizations.put("Check-In", interval(SimulationResults::getCheckInUtilization, confidence));
+        utilizations.put("Doctor", interval(SimulationResults::getDoctorUtilization, confidence));
+        utilizations.put("Lab", interval(SimulationResults::getLabUtilization, confidence));
+        utilizations.put("X-Ray", interval(SimulationResults::getXrayUtilization, confidence));
+        utilizations.put("Treatment", interval(SimulationResults::getTreatmentUtilization, confidence));
+    }
+
+    private ConfidenceInterval interval(ToDoubleFunction<SimulationResults> metric, double confidence) {
+        return ConfidenceInterval.of(results.stream().mapToDouble(metric).toArray(), confidence);
+    }
+
+    private double mean(ToDoubleFunction<SimulationResults> metric) {
+        return results.stream().mapToDouble(metric).average().orElse(0);
+    }
+
+    private StationStatistics meanStation(Function<SimulationResults, StationStatistics> station) {
+        return new StationStatistics(
+                mean(r -> station.apply(r).getAverageQueueLength()), mean(r -> station.apply(r).getAverageWait()),
+                mean(r -> station.apply(r).getWaitStdDev()), mean(r -> station.apply(r).getMaxWait()),
+                mean(r -> station.apply(r).getWaitP50()), mean(r -> station.apply(r).getWaitP90()),
+                mean(r -> station.apply(r).getWaitP99()), mean(r -> station.apply(r).getThroughput()));
+    }
+
+    /**
+     * Combines the replications into one row of results: every metric is the mean over the replications,
+     * the counts are rounded, and the half-widths are those of the replication confidence intervals.
+     * The percentiles and maxima are averaged as well, so they describe a typical replication.
+     * @return The mean results of the replications
+     */
+    public SimulationResults getMeanResults() {
+        SimulationResults mean = new SimulationResults(
+                mean(SimulationResults::getAverageTime),
+                (int) Math.round(mean(SimulationResults::getTotalPatients)),
+                (int) Math.round(mean(SimulationResults::getCompletedVisits)),
+                mean(SimulationResults::getLabProbability), mean(SimulationResults::getXrayProbability),
+                mean(SimulationResults::getTreatmentProbability), mean(SimulationResults::getNoTreatmentProbability),
+                mean(SimulationResults::getArrivalTime), mean(SimulationResults::getCheckInTime),
+                mean(SimulationResults::getDoctorTime), mean(SimulationResults::getLabTime),
+                mean(SimulationResults::getXrayTime), mean(SimulationResults::getTreatmentTime),
+                mean(SimulationResults::getEndTime),
+                mean(SimulationResults::getCheckInUtilization), mean(SimulationResults::getDoctorUtilization),
+                mean(SimulationResults::getLabUtilization), mean(SimulationResults::getXrayUtilization),
+                mean(SimulationResults::getTreatmentUtilization),
+                meanStation(SimulationResults::getCheckInStatistics), meanStation(SimulationResults::getDoctorStatistics),
+                meanStation(SimulationResults::getLabStatistics), meanStation(SimulationResults::getXrayStatistics),
+                meanStation(SimulationResults::getTreatmentStatistics),
+                mean(SimulationResults::getTimeInSystemP50), mean(SimulationResults::getTimeInSystemP90),
+                mean(SimulationResults::getTimeInSystemP99));
+        mean.setWarmUpTime(mean(SimulationResults::getWarmUpTime));
+        double[] utilizationHalfWidths = utilizations.values().stream()
+                .mapToDouble(ReplicationSummary::halfWidth).toArray();
+        mean.setReplications(results.size(), halfWidth(averageTime), utilizationHalfWidths);
+        return mean;
+    }
+
+    // a single replication has no interval; 0 keeps the persisted values finite
+    private static double halfWidth(ConfidenceInterval interval) {
+        return Double.isFinite(interval.getHalfWidth()) ? interval.getHalfWidth() : 0;
+    }
+
+    /**
+     * Returns the results of the replications.
+     * @return The results, in replication order
+     */
+    public List<SimulationResults> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the confidence interval of the average time spent in the system.
+     * @return The confidence interval
+     */
+    public ConfidenceInterval getAverageTime() {
+        return averageTime;
+    }
+
+    /**
+     * Returns the confidence intervals of the utilization rates, keyed by service point name.
+     * @return The confidence intervals
+     */
+    public Map<String, ConfidenceInterval> getUtilizations() {
+        return Collections.unmodifiableMap(utilizations);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("----- Replication Summary -----\n");
+        summary.append(String.format("Replications: %d\n", results.size()));
+        summary.append("Average time spent per patient: ").append(averageTime).append('\n');
+        summary.append("Service Point Utilization Rates:\n");
+        utilizations.forEach((name, interval) -> summary.append("  ").append(name).append(": ").append(interval).append('\n'));
+        return summary.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package org.group8.controller;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.ToIntFunction;
+
+/**
+ * Enumeration of the experimental designs of a parameter sweep. A design turns the factors into the
+ * design points to run, each point giving a value to every factor.
+ */
+public enum SweepDesign {
+
+    /**
+     * Every combination of the evenly spaced levels of the factors, as many levels per factor as it asks for.
+     */
+    GRID,
+
+    /**
+     * The two-level full factorial design: every combination of the lowest and highest value of the factors,
+     * 2^k points for k factors, from which the main effects and all interactions can be estimated.
+     */
+    FULL_FACTORIAL,
+
+    /**
+     * A Latin hypercube sample: the range of every factor is split into as many strata as there are points,
+     * every stratum of every factor is sampled exactly once, and the strata are paired at random.
+     * It covers many factors with few points.
+     */
+    LATIN_HYPERCUBE;
+
+    /**
+     * Creates the design points of this design.
+     * @param factors The factors
+     * @param samples The number of points of a Latin hypercube; not used by the other designs
+     * @param seed The seed of the random pairing of a Latin hypercube; not used by the other designs
+     * @return The design points, each the value of every factor by factor name, in the order of the factors
+     * @throws IllegalArgumentException if there are no factors, a factor is given twice, or a Latin hypercube has no samples
+     */
+    public List<Map<String, Double>> points(List<SweepFactor> factors, int samples, long seed) {
+        if (factors.isEmpty() || factors.stream().map(SweepFactor::getName).distinct().count() != factors.size()) {
+            throw new IllegalArgumentException("The factors must be given once each");
+        }
+        return switch (this) {
+            case GRID -> product(factors, SweepFactor::getLevels, SweepFactor::getLevel);
+            case FULL_FACTORIAL -> product(factors, factor -> 2, (factor, level) -> level == 0 ? factor.getMin() : factor.getMax());
+            case LATIN_HYPERCUBE -> latinHypercube(factors, samples, seed);
+        };
+    }
+
+    // the value of a factor at a level
+    private interface Level {
+        double value(SweepFactor factor, int level);
+    }
+
+    /**
+     * Enumerates the combinations of levels like an odometer, with the last factor varying fastest.
+     */
+    private static List<Map<String, Double>> product(List<SweepFactor> factors, ToIntFunction<SweepFactor> levels, Level level) {
+        int[] counts = factors.stream().mapToInt(levels).toArray();
+        int[] current = new int[factors.size()];
+        List<Map<String, Double>> points = new ArrayList<>();
+        while (true) {
+            Map<String, Double> point = new LinkedHashMap<>();
+            for (int f = 0; f < factors.size(); f++) {
+                point.put(factors.get(f).getName(), level.value(factors.get(f), current[f]));
+            }
+            points.add(point);
+
+            int f = factors.size() - 1;
+            while (f >= 0 && ++current[f] == counts[f]) {
+                current[f--] = 0;
+            }
+            if (f < 0) {
+                return points;
+            }
+        }
+    }
+
+    private static List<Map<String, Double>> latinHypercube(List<SweepFactor> factors, int samples, long seed) {
+        if (samples < 1) {
+            throw new IllegalArgumentException("Invalid number of samples: " + samples);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Map<String, Double>> points = new ArrayList<>();
+        for (int i = 0; i < samples; i++) {
+            points.add(new LinkedHashMap<>());
+        }
+        int[] strata = new int[samples];
+        for (SweepFactor factor : factors) {
+            // a random permutation of the strata, one per point (Fisher-Yates)
+            for (int i = 0; i < samples; i++) {
+                int j = random.nextInt(i + 1);
+                strata[i] = strata[j];
+                strata[j] = i;
+            }
+            for (int i = 0; i < samples; i++) {
+                double fraction = (strata[i] + random.nextDouble()) / samples;
+                points.get(i).put(factor.getName(), factor.getValue(fraction));
+            }
+        }
+        return points;
+    }
+}
@@ -0,0 +1,90 @@
+package org.group8.controller;
+
+/**
+ * The SweepFactor class describes one parameter varied by a parameter sweep: the average time of the
+ * distribution of an event, e.g. {@code doctor}, or the probability of a routing decision, e.g. {@code LAB},
+ * with the range it is varied over and the number of evenly spaced levels used by a grid.
+ */
+public class SweepFactor {
+
+    private final String name;
+    private final double min;
+    private final double max;
+    private final int levels;
+
+    /**
+     * Constructs a factor.
+     * @param name The parameter name, an event or a routing decision type
+     * @param min The lowest value
+     * @param max The highest value
+     * @param levels The number of evenly spaced levels from the lowest to the highest value
+     * @throws IllegalArgumentException if the range is empty or inverted, or there are less than two levels of a range
+     */
+    public SweepFactor(String name, double min, double max, int levels) {
+        if (!(min <= max) || levels < 1 || (levels == 1) != (min == max)) {
+            throw new IllegalArgumentException("Invalid range of " + name + ": " + min + ":" + max + ":" + levels);
+        }
+        this.name = name;
+        this.min = min;
+        this.max = max;
+        this.levels = levels;
+    }
+
+    /**
+     * Parses a factor given as {@code name=min:max:levels}, e.g. {@code doctor=4:6:3}, or {@code name=value}
+     * for a single value.
+     * @param text The factor
+     * @return The factor
+     * @throws IllegalArgumentException if the text is not a valid factor
+     */
+    public static SweepFactor parse(String text) {
+        String[] pair = text.split("=", 2);
+        if (pair.length != 2) {
+            throw new IllegalArgumentException("Invalid factor " + text);
+        }
+        String[] range = pair[1].split(":");
+        if (range.length == 1) {
+            double value = Double.parseDouble(range[0]);
+            return new SweepFactor(pair[0].trim(), value, value, 1);
+        }
+        if (range.length != 3) {
+            throw new IllegalArgumentException("Invalid factor " + text);
+        }
+        return new SweepFactor(pair[0].trim(), Double.parseDouble(range[0]), Double.parseDouble(range[1]),
+                Integer.parseInt(range[2]));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public int getLevels() {
+        return levels;
+    }
+
+    /**
+     * Returns a level of the grid of this factor.
+     * @param level The index of the level, from 0 for the lowest value
+     * @return The value of the level
+     */
+    public double getLevel(int level) {
+        return levels == 1 ? min : min + (max - min) * level / (levels - 1);
+    }
+
+    /**
+     * Maps a fraction of the range to a value, as used by sampled designs.
+     * @param fraction The fraction, between 0 and 1
+     * @return The value
+     */
+    public double getValue(double fraction) {
+        return min + (max - min) * fraction;
+    }
+}
@@ -0,0 +1,121 @@
+package org.group8.controller;
+
+import org.group8.distributions.UniformSource;
+import org.group8.simulator.model.HealthCentre;
+import org.group8.simulator.model.SimulationConfig;
+import org.group8.simulator.model.SimulationResults;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * The SweepRunner class runs a parameter sweep: every design point of a {@link SweepDesign} is a copy of the
+ * current configuration with the factors of the point changed, and is run as independent replications.
+ * The replications of all points share one pool of worker threads, so the processors stay busy until the
+ * last point. The replications of a point are combined into one row of results, the means of the
+ * replications with the half-widths of their confidence intervals.
+ * <p>
+ * Every point uses the same substreams for its replications (common random numbers), so the differences between the
+ * points come from the parameters rather than from the random streams.
+ * The rows are handed on in batches as the points complete, in point order, e.g. to be persisted in one
+ * transaction per batch.
+ */
+public class SweepRunner {
+
+    private final HeadlessController controller;
+    private final int parallelism;
+
+    /**
+     * Constructs a SweepRunner with the given number of worker threads.
+     * @param controller The headless controller creating the simulations
+     * @param parallelism The number of worker threads
+     */
+    public SweepRunner(HeadlessController controller, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.controller = controller;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs the sweep and returns one row of results per design point.
+     * @param points The design points, the value of every factor by parameter name
+     * @param replications The number of replications of every point
+     * @param simulationTime The simulation time of every replication
+     * @param seed The root seed of the substreams of the replications
+     * @return The mean results of every point, in point order
+     */
+    public List<SimulationResults> run(List<Map<String, Double>> points, int replications, double simulationTime, long seed) {
+        List<SimulationResults> rows = new ArrayList<>();
+        run(points, replications, simulationTime, seed, points.size(), rows::addAll);
+        return rows;
+    }
+
+    /**
+     * Runs the sweep and hands the rows of results on in batches, in point order, as the points complete.
+     * @param points The design points, the value of every factor by parameter name
+     * @param replications The number of replications of every point
+     * @param simulationTime The simulation time of every replication
+     * @param seed The root seed of the substreams of the replications
+     * @param batchSize The number of rows per batch; the last batch may be smaller
+     * @param sink Receives every batch of rows, in the calling thread
+     * @throws IllegalArgumentException if a point has an unknown parameter or an invalid value, or a count is not positive
+     */
+    public void run(List<Map<String, Double>> points, int replications, double simulationTime, long seed,
+                    int batchSize, Consumer<List<SimulationResults>> sink) {
+        if (replications < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Invalid number of replications or batch size");
+        }
+
+        // The configurations are derived in the calling thread, so invalid points fail before anything runs
+        SimulationConfig base = controller.loadConfig();
+        if (base.getUniformSource() == UniformSource.LCG && replications > UniformSource.LCG_MAX_REPLICATIONS) {
+            throw new IllegalArgumentException("The LCG has substreams for " + UniformSource.LCG_MAX_REPLICATIONS + " replications");
+        }
+        List<SimulationConfig> configs = new ArrayList<>();
+        for (Map<String, Double> point : points) {
+            configs.add(base.with(point));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            // all replications of all points are queued at once; a simulation is only created when it runs
+            List<List<ForkJoinTask<SimulationResults>>> tasks = new ArrayList<>();
+            for (SimulationConfig config : configs) {
+                List<ForkJoinTask<SimulationResults>> pointTasks = new ArrayList<>();
+                for (int i = 0; i < replications; i++) {
+                    int replication = i;
+                    pointTasks.add(pool.submit(() -> {
+                        HealthCentre centre = controller.createSimulation(config, simulationTime, seed, replication);
+                        centre.run();
+                        return centre.getResults();
+                    }));
+                }
+                tasks.add(pointTasks);
+            }
+
+            List<SimulationResults> batch = new ArrayList<>();
+            for (List<ForkJoinTask<SimulationResults>> pointTasks : tasks) {
+                List<SimulationResults> results = new ArrayList<>();
+                for (ForkJoinTask<SimulationResults> task : pointTasks) {
+                    results.add(task.join());
+                }
+                batch.add(new ReplicationSummary(results, 0.95).getMeanResults());
+                if (batch.size() == batchSize) {
+                    sink.accept(List.copyOf(batch));
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                sink.accept(List.copyOf(batch));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
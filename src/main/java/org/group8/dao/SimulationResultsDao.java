@@ -14,6 +14,9 @@ import java.util.List;
  */
 public class SimulationResultsDao {
 
+    /** The number of entities persisted between two flushes of a bulk insert, and the JDBC batch size of persistence.xml */
+    public static final int FLUSH_INTERVAL = 50;
+
     /**
      * Persists a new SimulationResults entity in the database.
      * @param simResults The SimulationResults entity to be persisted
@@ -25,6 +28,32 @@ public class SimulationResultsDao {
         em.getTransaction().commit();
     }
 
+    /**
+     * Persists several new SimulationResults entities in one transaction, e.g. the rows of a parameter sweep.
+     * The ids come from a sequence and {@code hibernate.jdbc.batch_size} equals {@link #FLUSH_INTERVAL}, so every
+     * flush sends its inserts as one JDBC batch rather than a round trip per row. The persistence context is
+     * cleared after every flush, so that it does not grow with the number of rows. If an entity cannot be
+     * persisted, none of them are.
+     * @param simResults The SimulationResults entities to be persisted
+     */
+    public void persistAll(List<SimulationResults> simResults) {
+        EntityManager em = MariaDbJpaConnection.getInstance();
+        em.getTransaction().begin();
+        try {
+            for (int i = 0; i < simResults.size(); i++) {
+                em.persist(simResults.get(i));
+                if ((i + 1) % FLUSH_INTERVAL == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+            em.getTransaction().commit();
+        } catch (RuntimeException e) {
+            em.getTransaction().rollback();
+            throw e;
+        }
+    }
+
     /**
      * Finds a SimulationResults entity by its ID.
      * @param id The ID of the SimulationResults entity to find
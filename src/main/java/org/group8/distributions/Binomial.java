@@ -34,7 +34,7 @@ public class Binomial extends Generator implements DiscreteGenerator {
     }
 
     private void set(double prob, int trials) {
-	if (prob <= 0.0)
+	if ((prob <= 0.0) || (prob > 1.0))
 	    throw new ParameterException("Binomial: The probability of success must be between 0 and 1.");
 	if (trials <= 0)
 	    throw new ParameterException("Binomial: The number of trials must be a positive integer.");
@@ -44,4 +44,11 @@ public class Cauchy extends Generator implements ContinuousGenerator {
      * @return The next random number in the sequence
      */
     public double sample() { return distrib.cauchy(median, scale); }
+
+    /**
+     * Fills a range of an array with the next random numbers, in a tight loop.
+     */
+    public void fill(double[] out, int off, int len) {
+         distrib.cauchy(median, scale, out, off, len);
+    }
 }
@@ -1,5 +1,7 @@
 package org.group8.distributions;
 
+import java.util.Arrays;
+
 /**
  * offers several discrete and continuous distributions all seeded by a common
  * well-spaced pseudo random number generator (PRNG).
@@ -19,19 +21,241 @@ public class Distributions {
      */
     public Distributions(ContinuousGenerator gen) { source = gen; }
 
+    /** The largest integer shape of gamma and Erlang computed from a product of uniform samples */
+    static final int PRODUCT_SHAPE_LIMIT = 3;
+    /** The smallest mean of poisson sampled with PTRS, below it the product of uniform samples is used */
+    static final double PTRS_MIN_MEAN = 10;
+    /** The smallest mean min(prob, 1-prob)*trials of binomial sampled with BTPE, below it inversion is used */
+    static final double BTPE_MIN_MEAN = 30;
+
+    /** Uniform samples of the distributions that take two per sample, reused between calls */
+    private double[] scratch = new double[0];
+
+    // bulk versions: every method fills out[off..off+len) with the same values as len
+    // successive calls of the single sample method, in tight loops over one bulk draw
+    // of uniform samples from the source
+
+    /** fills with uniform samples of the PRNG */
+    public void uniform01(double[] out, int off, int len) { source.fill(out, off, len); }
+
+    /** fills with samples of {@link #negexp(double)} */
+    public void negexp(double mean, double[] out, int off, int len) {
+	source.fill(out, off, len);
+	for (int i = off; i < off + len; i++)
+	    out[i] = -mean * Math.log(out[i]);
+    }
+
+    /** fills with samples of {@link #uniform(double, double)} */
+    public void uniform(double min, double max, double[] out, int off, int len) {
+	source.fill(out, off, len);
+	double range = max - min;
+	for (int i = off; i < off + len; i++)
+	    out[i] = range * out[i] + min;
+    }
+
+    /** fills with samples of {@link #cauchy(double, double)} */
+    public void cauchy(double median, double scale, double[] out, int off, int len) {
+	source.fill(out, off, len);
+	for (int i = off; i < off + len; i++)
+	    out[i] = median + scale/Math.tan(Math.PI*out[i]);
+    }
+
+    /** fills with samples of {@link #logistic(double, double)} */
+    public void logistic(double location, double scale, double[] out, int off, int len) {
+	source.fill(out, off, len);
+	for (int i = off; i < off + len; i++)
+	    out[i] = location-scale*Math.log((1/out[i])-1);
+    }
+
+    /** fills with samples of {@link #pareto(double, double)} */
+    public void pareto(double scale, double shape, double[] out, int off, int len) {
+	source.fill(out, off, len);
+	for (int i = off; i < off + len; i++)
+	    out[i] = scale / Math.pow(out[i], 1/shape);
+    }
+
+    /** fills with samples of {@link #weibull(double, double)} */
+    public void weibull(double scale, double shape, double[] out, int off, int len) {
+	source.fill(out, off, len);
+	for (int i = off; i < off + len; i++)
+	    out[i] = scale * Math.pow(Math.log(out[i]), 1/shape);
+    }
+
+    /** fills with samples of {@link #normal2(double, double)}, two uniform samples each */
+    public void normal2(double mean, double std_dev, double[] out, int off, int len) {
+	double[] u = uniforms(2 * len);
+	for (int i = 0; i < len; i++)
+	    out[off + i] = mean + std_dev * Math.cos(2 * Math.PI * u[2*i]) * Math.sqrt(-2 * Math.log(u[2*i + 1]));
+    }
+
+    /** fills with samples of {@link #lognormal2(double, double)} */
+    public void lognormal2(double mean, double std_dev, double[] out, int off, int len) {
+	normal2(0.0, 1.0, out, off, len);
+	for (int i = off; i < off + len; i++)
+	    out[i] = Math.exp(mean+std_dev*out[i]);
+    }
+
+    /** fills with samples of {@link #erlang(double, double)}, computed from consecutive uniform samples */
+    public void erlang(double scale, double shape, double[] out, int off, int len) {
+	int k = (int) Math.ceil(shape);
+	if (k > PRODUCT_SHAPE_LIMIT) {
+	    for (int i = off; i < off + len; i++)
+		out[i] = scale * marsagliaTsang(k);
+	    return;
+	}
+	if (k <= 0) {
+	    // no uniform samples are drawn, and the scalar path returns -scale * log(1), a signed zero
+	    Arrays.fill(out, off, off + len, -scale * 0.0);
+	    return;
+	}
+	double[] u = uniforms(k * len);
+	for (int i = 0; i < len; i++) {
+	    double product = 1.0;
+	    for (int j = k * i; j < k * i + k; j++)
+		product *= u[j];
+	    out[off + i] = -scale * Math.log(product);
+	}
+    }
+
+    /** fills with samples of {@link #poisson(double)} */
+    public void poisson(double mean, double[] out, int off, int len) {
+	for (int i = off; i < off + len; i++)
+	    out[i] = poisson(mean);
+    }
+
+    /** fills with samples of {@link #zigguratNegexp(double)} */
+    public void zigguratNegexp(double mean, double[] out, int off, int len) {
+	for (int i = off; i < off + len; i++)
+	    out[i] = mean * Ziggurat.exponential(source);
+    }
+
+    /** fills with samples of {@link #zigguratNormal(double, double)} */
+    public void zigguratNormal(double mean, double std_dev, double[] out, int off, int len) {
+	for (int i = off; i < off + len; i++)
+	    out[i] = mean + std_dev * Ziggurat.normal(source);
+    }
+
+    /** fills with samples of {@link #zigguratLognormal(double, double)} */
+    public void zigguratLognormal(double mean, double std_dev, double[] out, int off, int len) {
+	for (int i = off; i < off + len; i++)
+	    out[i] = Math.exp(mean + std_dev * Ziggurat.normal(source));
+    }
+
+    /** draws n uniform samples into the scratch array */
+    private double[] uniforms(int n) {
+	if (scratch.length < n) scratch = new double[Math.max(n, 2 * scratch.length)];
+	source.fill(scratch, 0, n);
+	return scratch;
+    }
+
     // discrete distributions
     /** computes a Bernoulli's distribution
      * @return 1 iif <i>sample</i> &le; prob, 0 otherwise; <i>sample</i> is provided by the PRGN
      */
     public long bernoulli(double prob) { return source.sample()<=prob?1:0; }
 
-    /** computes a binomial distribution
-     * @return &sum;(i=0; i&lt;trials-1; bernoulli(prob))
+    /** computes a binomial distribution, the number of successes in trials bernoulli(prob),
+     * in constant expected time: by inversion when min(prob, 1-prob)*trials &lt; 30,
+     * and with the BTPE algorithm of Kachitvichyanukul and Schmeiser (1988) otherwise
      */
     public long binomial(double prob, int trials) {
-	long sum = 0l;
-	for (int i=0; i<trials; i++) sum += bernoulli(prob);
-	return sum;
+	double r = Math.min(prob, 1.0-prob);
+	long successes = r*trials < BTPE_MIN_MEAN ? binomialInversion(r, trials) : btpe(r, trials);
+	return prob > 0.5 ? trials - successes : successes;
+    }
+
+    /** sequential search of the cumulative distribution, from 0 upwards; prob &le; 0.5 */
+    private long binomialInversion(double prob, int trials) {
+	double q = 1.0 - prob;
+	double p0 = Math.exp(trials * Math.log(q));
+	double bound = Math.min(trials, trials*prob + 10.0*Math.sqrt(trials*prob*q + 1));
+	long x = 0;
+	double px = p0, u = source.sample();
+	while (u > px) {
+	    x++;
+	    if (x > bound) {
+		// lost in the far tail through rounding, start over
+		x = 0;
+		px = p0;
+		u = source.sample();
+	    } else {
+		u -= px;
+		px = ((trials - x + 1) * prob * px) / (x * q);
+	    }
+	}
+	return x;
+    }
+
+    /** the BTPE algorithm: a triangle, two parallelograms and two exponential tails
+     * over the distribution, with a squeeze to avoid most evaluations of it; prob &le; 0.5 */
+    private long btpe(double prob, int n) {
+	double q = 1.0 - prob;
+	double nrq = n * prob * q;
+	double fm = n * prob + prob;
+	long m = (long) Math.floor(fm);
+	double p1 = Math.floor(2.195 * Math.sqrt(nrq) - 4.6 * q) + 0.5;
+	double xm = m + 0.5, xl = xm - p1, xr = xm + p1;
+	double c = 0.134 + 20.5 / (15.3 + m);
+	double a = (fm - xl) / (fm - xl * prob);
+	double laml = a * (1.0 + a / 2.0);
+	a = (xr - fm) / (xr * q);
+	double lamr = a * (1.0 + a / 2.0);
+	double p2 = p1 * (1.0 + 2.0 * c), p3 = p2 + c / laml, p4 = p3 + c / lamr;
+
+	while (true) {
+	    double u = source.sample() * p4, v = source.sample();
+	    long y;
+	    if (u <= p1) {
+		// the triangle, accepted at once
+		return (long) Math.floor(xm - p1 * v + u);
+	    } else if (u <= p2) {
+		// the parallelograms
+		double x = xl + (u - p1) / c;
+		v = v * c + 1.0 - Math.abs(m - x + 0.5) / p1;
+		if (v > 1.0) continue;
+		y = (long) Math.floor(x);
+	    } else if (u <= p3) {
+		// the left tail
+		y = (long) Math.floor(xl + Math.log(v) / laml);
+		if (y < 0) continue;
+		v = v * (u - p2) * laml;
+	    } else {
+		// the right tail
+		y = (long) Math.floor(xr - Math.log(v) / lamr);
+		if (y > n) continue;
+		v = v * (u - p3) * lamr;
+	    }
+
+	    long k = Math.abs(y - m);
+	    if (k <= 20 || k >= nrq / 2.0 - 1) {
+		// evaluate f(y)/f(m) by its recurrence
+		double s = prob / q, as = s * (n + 1.0), f = 1.0;
+		if (m < y)
+		    for (long i = m + 1; i <= y; i++) f *= as / i - s;
+		else
+		    for (long i = y + 1; i <= m; i++) f /= as / i - s;
+		if (v <= f) return y;
+		continue;
+	    }
+
+	    // squeeze on log(f(y)/f(m)), then compare with Stirling's approximation of it
+	    double rho = (k / nrq) * ((k * (k / 3.0 + 0.625) + 0.16666666666666666) / nrq + 0.5);
+	    double t = -k * (double) k / (2 * nrq);
+	    double logv = Math.log(v);
+	    if (logv < t - rho) return y;
+	    if (logv > t + rho) continue;
+	    double x1 = y + 1, f1 = m + 1, z = n + 1.0 - m, w = n - y + 1.0;
+	    if (logv <= xm * Math.log(f1 / x1) + (n - m + 0.5) * Math.log(z / w)
+		+ (y - m) * Math.log(w * prob / (x1 * q))
+		+ stirlingCorrection(f1) + stirlingCorrection(z) + stirlingCorrection(x1) + stirlingCorrection(w))
+		return y;
+	}
+    }
+
+    /** the correction term of Stirling's series of log(x!) */
+    private static double stirlingCorrection(double x) {
+	double x2 = x * x;
+	return (13680. - (462. - (132. - (99. - 140. / x2) / x2) / x2) / x2) / x / 166320.;
     }
 
     /** computes a geometric distribution
@@ -51,10 +275,35 @@ public class Distributions {
 	return sum;
     }
 
-    /** computes a poisson distribution
-     * @return the smallest integer x so as &prod;(i=0; i&lt;x; <i>sample</i>) &le; exp(-mean) 
+    /** computes a poisson distribution in constant expected time: with the PTRS algorithm
+     * (transformed rejection with squeeze) of H&ouml;rmann (1993) when mean &ge; 10
+     * and with {@link #poissonProduct(double)} otherwise
      */
     public long poisson(double mean) {
+	if (mean < PTRS_MIN_MEAN)
+	    return poissonProduct(mean);
+	double slam = Math.sqrt(mean), loglam = Math.log(mean);
+	double b = 0.931 + 2.53 * slam;
+	double a = -0.059 + 0.02483 * b;
+	double invalpha = 1.1239 + 1.1328 / (b - 3.4);
+	double vr = 0.9277 - 3.6224 / (b - 2);
+	while (true) {
+	    double u = source.sample() - 0.5, v = source.sample();
+	    double us = 0.5 - Math.abs(u);
+	    long k = (long) Math.floor((2 * a / us + b) * u + mean + 0.43);
+	    if (us >= 0.07 && v <= vr)
+		return k;
+	    if (k < 0 || (us < 0.013 && v > us))
+		continue;
+	    if (Math.log(v) + Math.log(invalpha) - Math.log(a / (us * us) + b) <= -mean + k * loglam - logFactorial(k))
+		return k;
+	}
+    }
+
+    /** computes a poisson distribution by multiplying uniform samples, in time proportional to the mean
+     * @return the smallest integer x so as &prod;(i=0; i&lt;x; <i>sample</i>) &le; exp(-mean) 
+     */
+    public long poissonProduct(double mean) {
 	long x = -1L;
 	double m = Math.exp(-mean), product=1;
 	do {
@@ -124,21 +373,20 @@ public class Distributions {
 	return median + scale/Math.tan(Math.PI*source.sample());
     }
 
-    /** computes a chisquare distribution
-     * @return &sum;(i=0; i&lt;deg_freedom; normal(0,1))
+    /** computes a chisquare distribution, the sum of deg_freedom squared normal(0,1)
+     * @return gamma(2, deg_freedom/2)
      */
     public double chisquare(long deg_freedom) {
-	// use normal2 because sqrt(1)=1
-	double result = 0.0;
-	for (long i=0L; i < deg_freedom; i++)
-	    result += normal2(0.0, 1.0);
-	return result;
+	return gamma(2.0, deg_freedom/2.0);
     }
     
-    /** computes an Erlang's distribution
+    /** computes an Erlang's distribution; when shape &gt; 3 it is computed like
+     * {@link #gamma(double, double)}, with the method of Marsaglia and Tsang
      * @return -scale * log ( &prod;(i=0; i&lt;shape; <i>sample</i>) ); <i>sample</i> is provided by the PRGN
      */
     public double erlang(double scale, double shape) {
+	if (shape > PRODUCT_SHAPE_LIMIT)
+	    return scale * marsagliaTsang(Math.ceil(shape));
 	double product = 1.0;
 	for (int i=0; i<shape; i++)
 	    product *= source.sample();
@@ -153,9 +401,13 @@ public class Distributions {
 	    / (chisquare(den_deg_freedom)/den_deg_freedom);
     }
 
-    /** computes a gamma distribution
+    /** computes a gamma distribution: from a product of uniform samples for an integer shape
+     * up to 3, with Berman's beta method for a shape below 1, and with the method of
+     * Marsaglia and Tsang (2000) otherwise, in constant expected time
      */
     public double gamma(double scale, double shape) {
+	if (shape > PRODUCT_SHAPE_LIMIT || (shape > 1.0 && shape != Math.floor(shape)))
+	    return scale * marsagliaTsang(shape);
 	if (shape == Math.floor(shape)) {
 	    // The shape is an integer
 	    double product = 1.0;
@@ -164,13 +416,41 @@ public class Distributions {
 	    
 	    return -scale*Math.log(product);
 	} 
-	// not an integer
-	if (shape < 1.0)
-	    return scale * beta(shape, 1.0-shape) * negexp(1.0);
-	
-	// shape >= 1.0
-	double floor = Math.floor(shape);
-	return gamma(scale, floor) + gamma(scale, shape-floor);
+	// not an integer, shape < 1.0
+	return scale * beta(shape, 1.0-shape) * negexp(1.0);
+    }
+
+    /** the method of Marsaglia and Tsang (2000): the gamma(1, shape) sample is d*v for
+     * v = (1+c*x)^3 of a normal sample x, accepted with a squeeze in most of the draws; shape &ge; 1
+     */
+    private double marsagliaTsang(double shape) {
+	double d = shape - 1.0/3.0, c = 1.0/Math.sqrt(9.0*d);
+	while (true) {
+	    double x, v;
+	    do {
+		x = Ziggurat.normal(source);
+		v = 1.0 + c*x;
+	    } while (v <= 0.0);
+	    v = v*v*v;
+	    double u = source.sample(), x2 = x*x;
+	    if (u < 1.0 - 0.0331*x2*x2 || Math.log(u) < 0.5*x2 + d*(1.0 - v + Math.log(v)))
+		return d*v;
+	}
+    }
+
+    /** log(k!), from a table up to 9! and from Stirling's series beyond */
+    private static double logFactorial(long k) {
+	if (k < LOG_FACTORIALS.length)
+	    return LOG_FACTORIALS[(int) k];
+	double x = k + 1.0, x2 = x*x;
+	return (x - 0.5)*Math.log(x) - x + 0.5*Math.log(2*Math.PI)
+	    + (1.0/12 - (1.0/360 - 1.0/(1260*x2))/x2)/x;
+    }
+
+    private static final double[] LOG_FACTORIALS = new double[10];
+    static {
+	for (int k = 1; k < LOG_FACTORIALS.length; k++)
+	    LOG_FACTORIALS[k] = LOG_FACTORIALS[k-1] + Math.log(k);
     }
     
     /** computes an invgamma distribution
@@ -226,6 +506,31 @@ public class Distributions {
 	return mean + std_dev * Math.cos(2 * Math.PI * u1) * Math.sqrt(-2 * Math.log(u2));
     }
 
+    /** computes a negexp distribution with the Ziggurat method of Marsaglia and Tsang (2000);
+     * it rarely calls <code>log</code>, and draws one <i>sample</i> most of the time
+     * @return mean * exponential(1)
+     */
+    public double zigguratNegexp(double mean) {
+	return mean * Ziggurat.exponential(source);
+    }
+
+    /** computes a normal distribution with the Ziggurat method of Marsaglia and Tsang (2000);
+     * it rarely calls <code>log</code> or <code>exp</code>, and draws one <i>sample</i> most of the time
+     * @param std_dev is assumed to be the square root of the variance.
+     * @return mean + std_dev * normal(0,1)
+     */
+    public double zigguratNormal(double mean, double std_dev) {
+	return mean + std_dev * Ziggurat.normal(source);
+    }
+
+    /** computes a lognormal distribution with the Ziggurat method for the normal sample
+     * @param std_dev is assumed to be the square root of the variance.
+     * @return exp(mean + std_dev * normal(0,1))
+     */
+    public double zigguratLognormal(double mean, double std_dev) {
+	return Math.exp(mean + std_dev * Ziggurat.normal(source));
+    }
+
     /** computes a pareto distribution; <i>sample</i> is provided by the PRGN
      * @return scale / (<i>sample</i>^(1/shape))
      */
@@ -43,5 +43,12 @@ public class Erlang extends Generator implements ContinuousGenerator {
      * Generate a new random number.
      * @return The next random number in the sequence
      */
-    public double sample() { return distrib.erlang(shape, scale); }
+    public double sample() { return distrib.erlang(scale, shape); }
+
+    /**
+     * Fills a range of an array with the next random numbers, in a tight loop.
+     */
+    public void fill(double[] out, int off, int len) {
+         distrib.erlang(scale, shape, out, off, len);
+    }
 }
@@ -7,6 +7,7 @@ public abstract class Generator implements Seedable {
     protected Distributions distrib;
     Generator () { distrib = new Distributions(); }
     Generator (long seed) { distrib = new Distributions(seed); }
+    Generator (ContinuousGenerator source) { distrib = new Distributions(source); }
     
     // ----- implements Seedable { -----
     public void setSeed(long seed) { distrib.source.setSeed(seed); }
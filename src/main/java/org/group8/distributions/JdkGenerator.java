@@ -0,0 +1,57 @@
+package org.group8.distributions;
+
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * A continuous generator backed by one of the algorithms of
+ * <code>java.util.random</code>, e.g. the LXM generator
+ * <code>L64X128MixRandom</code> (period 2<sup>64</sup>(2<sup>128</sup>-1))
+ * or <code>Xoshiro256PlusPlus</code> (period 2<sup>256</sup>-1).
+ * The seed is the one given to the algorithm's factory: the same algorithm
+ * and seed give the same sequence.
+ * <p>
+ * The uniform samples have 53 random bits and lie in the open interval
+ * (0,1), like those of the <code>RandomGenerator</code>.
+ */
+public class JdkGenerator implements ContinuousGenerator {
+    private final RandomGeneratorFactory<java.util.random.RandomGenerator> factory;
+    private java.util.random.RandomGenerator source;
+    private long seed;
+
+    /**
+     * @param algorithm The name of the algorithm, e.g. <code>L64X128MixRandom</code>
+     * @throws IllegalArgumentException if the algorithm is not available
+     */
+    public JdkGenerator(String algorithm) {
+        factory = RandomGeneratorFactory.of(algorithm);
+        reseed();
+    }
+    public JdkGenerator(String algorithm, long seed) {
+        factory = RandomGeneratorFactory.of(algorithm);
+        setSeed(seed);
+    }
+
+    // ----- implements ContinuousGenerator { -----
+    public double sample() {
+        return SplitMix64.toUnitInterval(source.nextLong());
+    }
+    public void fill(double[] out, int off, int len) {
+        java.util.random.RandomGenerator s = source;
+        for (int i = off; i < off + len; i++)
+            out[i] = SplitMix64.toUnitInterval(s.nextLong());
+    }
+    // ----- } implements ContinuousGenerator -----
+
+    /**
+     * @return The next 64-bit random number in the sequence
+     */
+    public long nextLong() {
+        return source.nextLong();
+    }
+
+    // ----- implements Seedable { -----
+    public void setSeed(long seed) { this.seed = seed; source = factory.create(seed); }
+    public long getSeed() { return seed; }
+    public void reseed() { setSeed(SeedGenerator.nextDefaultSeed()); }
+    // ----- } implements Seedable -----
+}
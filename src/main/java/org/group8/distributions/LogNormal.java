@@ -27,10 +27,31 @@ public class LogNormal extends Normal {
     public LogNormal(double mean, double variance, long seed) {
 	super(mean, variance, seed);
     }
+
+    /**
+     * The constructor with which the uniform random number generator is chosen
+     * @param mean The mean of the distribution
+     * @param variance The variance of the distribution
+     * @param source The uniform generator, e.g. a <code>SplitMix64</code>;
+     *               it must not be shared with another generator
+     */
+    public LogNormal(double mean, double variance, ContinuousGenerator source) {
+	super(mean, variance, source);
+    }
     
     /**
      * Generate a new random number.
      * @return The next random number in the sequence
      */
-    public double sample() { return distrib.lognormal2(mean, std_dev); }
+    public double sample() {
+	return method == VariateMethod.ZIGGURAT ? distrib.zigguratLognormal(mean, std_dev) : distrib.lognormal2(mean, std_dev);
+    }
+
+    /**
+     * Fills a range of an array with the next random numbers, in a tight loop.
+     */
+    public void fill(double[] out, int off, int len) {
+	if (method == VariateMethod.ZIGGURAT) distrib.zigguratLognormal(mean, std_dev, out, off, len);
+	else distrib.lognormal2(mean, std_dev, out, off, len);
+    }
 }
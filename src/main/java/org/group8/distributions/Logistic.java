@@ -42,4 +42,11 @@ public class Logistic extends Generator implements ContinuousGenerator {
     public double sample() { 
          return distrib.logistic(location, scale);
     }
+
+    /**
+     * Fills a range of an array with the next random numbers, in a tight loop.
+     */
+    public void fill(double[] out, int off, int len) {
+         distrib.logistic(location, scale, out, off, len);
+    }
 }
@@ -8,6 +8,7 @@ package org.group8.distributions;
 
 public class Negexp extends Generator implements ContinuousGenerator {
     private double mean;
+    private VariateMethod method = VariateMethod.ZIGGURAT;
     /**
      * the seed is aumatically provided by the <code>SeedGenerator</code>
      */
@@ -27,17 +28,43 @@ public class Negexp extends Generator implements ContinuousGenerator {
         set(mean);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is chosen
+     * @param source The uniform generator, e.g. a <code>SplitMix64</code>;
+     *               it must not be shared with another generator
+     */
+    public Negexp(double mean, ContinuousGenerator source) {
+        super(source);
+        set(mean);
+    }
+
     private void set(double mean) {
         if (mean<=0)
             throw new ParameterException("Negexp: The mean must be greater than 0.");
         this.mean = mean;
     }
 
+    /**
+     * Chooses how the samples are computed.
+     * @param method The Ziggurat method (the default), or the inverse
+     *               transformation of earlier versions
+     */
+    public void setMethod(VariateMethod method) { this.method = method; }
+    public VariateMethod getMethod() { return method; }
+
     /**
      * Generate a new random number.
      * @return The next random number in the sequence
      */
     public double sample() { 
-         return distrib.negexp(mean);
+         return method == VariateMethod.ZIGGURAT ? distrib.zigguratNegexp(mean) : distrib.negexp(mean);
+    }
+
+    /**
+     * Fills a range of an array with the next random numbers, in a tight loop.
+     */
+    public void fill(double[] out, int off, int len) {
+         if (method == VariateMethod.ZIGGURAT) distrib.zigguratNegexp(mean, out, off, len);
+         else distrib.negexp(mean, out, off, len);
     }
 }
@@ -8,6 +8,7 @@ package org.group8.distributions;
 
 public class Normal extends Generator implements ContinuousGenerator {
     protected double mean, std_dev;
+    protected VariateMethod method = VariateMethod.ZIGGURAT;
     
     /**
      * the seed is automatically provided by the <code>SeedGenerator</code>
@@ -31,6 +32,18 @@ public class Normal extends Generator implements ContinuousGenerator {
 	super(seed);
 	set(mean, variance);
     }
+
+    /**
+     * The constructor with which the uniform random number generator is chosen
+     * @param mean The mean of the distribution
+     * @param variance The variance of the distribution
+     * @param source The uniform generator, e.g. a <code>SplitMix64</code>;
+     *               it must not be shared with another generator
+     */
+    public Normal(double mean, double variance, ContinuousGenerator source) {
+	super(source);
+	set(mean, variance);
+    }
     
     private void set(double mean, double variance) {
 	if (variance <= 0.0)
@@ -39,9 +52,27 @@ public class Normal extends Generator implements ContinuousGenerator {
 	this.std_dev = Math.sqrt(variance);
     }
 
+    /**
+     * Chooses how the samples are computed.
+     * @param method The Ziggurat method (the default), or the Box-Muller
+     *               transform of earlier versions
+     */
+    public void setMethod(VariateMethod method) { this.method = method; }
+    public VariateMethod getMethod() { return method; }
+
     /**
      * Generate a new random number.
      * @return The next random number in the sequence
      */
-    public double sample() { return distrib.normal2(mean, std_dev); }
+    public double sample() {
+	return method == VariateMethod.ZIGGURAT ? distrib.zigguratNormal(mean, std_dev) : distrib.normal2(mean, std_dev);
+    }
+
+    /**
+     * Fills a range of an array with the next random numbers, in a tight loop.
+     */
+    public void fill(double[] out, int off, int len) {
+	if (method == VariateMethod.ZIGGURAT) distrib.zigguratNormal(mean, std_dev, out, off, len);
+	else distrib.normal2(mean, std_dev, out, off, len);
+    }
 }
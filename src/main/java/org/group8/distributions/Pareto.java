@@ -42,4 +42,11 @@ public class Pareto extends Generator implements ContinuousGenerator {
     public double sample() { 
          return distrib.pareto(shape, scale);
     }
+
+    /**
+     * Fills a range of an array with the next random numbers, in a tight loop.
+     */
+    public void fill(double[] out, int off, int len) {
+         distrib.pareto(shape, scale, out, off, len);
+    }
 }
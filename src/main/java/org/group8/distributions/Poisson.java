@@ -27,6 +27,16 @@ public class Poisson extends Generator implements DiscreteGenerator {
         set(mean);
     }
 
+    /**
+     * The constructor with which the uniform random number generator is chosen
+     * @param source The uniform generator, e.g. a <code>SplitMix64</code>;
+     *               it must not be shared with another generator
+     */
+    public Poisson(double mean, ContinuousGenerator source) {
+        super(source);
+        set(mean);
+    }
+
     private void set(double mean) {
         if (mean<=0)
             throw new ParameterException("Poisson: The mean must be greater than 0.");
@@ -40,4 +50,11 @@ public class Poisson extends Generator implements DiscreteGenerator {
     public long sample() { 
          return distrib.poisson(mean);
     }
+
+    /**
+     * Fills a range of an array with the next random numbers, in a tight loop.
+     */
+    public void fill(double[] out, int off, int len) {
+         distrib.poisson(mean, out, off, len);
+    }
 }
@@ -30,18 +30,31 @@ public class RandomGenerator implements ContinuousGenerator {
     public double sample() { 
 	return ((double)nextLong()) / m;
     }
+    public void fill(double[] out, int off, int len) {
+	long s = seed;
+	for (int i = off; i < off + len; i++) {
+	    long x = a * s;
+	    x = (x & m) + (x >>> 31);
+	    s = x >= m ? x - m : x;
+	    out[i] = ((double)s) / m;
+	}
+	seed = s;
+    }
     // ----- } implements ContinuousGenerator -----
 
     /**
      * @return The next long random number in the sequence
      */
     public long nextLong() {
-	return seed = (a * seed) % m;
+	// m is the Mersenne prime 2^31-1, so x mod m is folded from the high and low 31 bits of x, without a division
+	long x = a * seed;
+	x = (x & m) + (x >>> 31);
+	return seed = x >= m ? x - m : x;
     }
     
     // ----- implements Seedable { -----
     public void setSeed(long seed) { this.seed = seed; }
     public long getSeed() { return seed; }
-    public void reseed() { this.seed = SeedGenerator.getDefaultSeedGenerator().sample(); }
+    public void reseed() { this.seed = SeedGenerator.nextDefaultSeed(); }
     // ----- } implements Seedable -----
 }
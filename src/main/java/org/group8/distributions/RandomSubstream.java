@@ -0,0 +1,45 @@
+package org.group8.distributions;
+
+/**
+ * A substream of the LCG of <code>RandomGenerator</code> with a budget of
+ * draws. The substreams of a seed are consecutive parts of the same
+ * sequence, so a substream that drew past its length would silently go on
+ * with the numbers of the next one; this one throws instead.
+ */
+final class RandomSubstream extends RandomGenerator {
+    private long remaining;
+
+    /**
+     * @param seed The seed at the start of the substream
+     * @param length The number of draws the substream holds
+     */
+    RandomSubstream(long seed, long length) {
+        super(seed);
+        this.remaining = length;
+    }
+
+    /**
+     * @throws IllegalStateException if the substream is exhausted
+     */
+    @Override
+    public long nextLong() {
+        spend(1);
+        return super.nextLong();
+    }
+
+    /**
+     * @throws IllegalStateException if the substream has fewer than <code>len</code> draws left
+     */
+    @Override
+    public void fill(double[] out, int off, int len) {
+        spend(len);
+        super.fill(out, off, len);
+    }
+
+    private void spend(long draws) {
+        if (draws > remaining) {
+            throw new IllegalStateException("The LCG substream is exhausted; use a 64-bit generator for longer runs");
+        }
+        remaining -= draws;
+    }
+}
@@ -1,5 +1,21 @@
 package org.group8.distributions;
 
+/** A sample generator provides samples as doubles, one at a time or in bulk.
+ */
 public interface SampleGenerator {
     double sampleAsDouble();
+
+    /**
+     * Fills a range of an array with the next samples, the same values as
+     * <code>len</code> successive calls to {@link #sampleAsDouble()} would give.
+     * Generators override it with a tight loop over their distribution, so a
+     * caller that buffers samples avoids one chain of virtual calls per sample.
+     * @param out The array to fill
+     * @param off The index of the first sample
+     * @param len The number of samples
+     */
+    default void fill(double[] out, int off, int len) {
+        for (int i = off; i < off + len; i++)
+            out[i] = sampleAsDouble();
+    }
 }
@@ -1,11 +1,31 @@
 package org.group8.distributions;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /** A SeedGenerator is a DiscreteGenerator which produces well-spaced seeds
  *  according to its spacing attribute. It relies on a <code>RandomGenerator</code>
+ *  <p>
+ *  The seeds are computed by jumping ahead in the sequence of the LCG rather than
+ *  by drawing <code>spacing</code> numbers: <i>spacing</i> steps of the LCG multiply
+ *  the seed by <code>a<sup>spacing</sup> mod m</code>, which is computed once by
+ *  modular exponentiation in O(log spacing), so every sample costs a single
+ *  modular multiplication. {@link #jump(long, long)} reaches any position of the
+ *  sequence in O(log n).
+ *  <p>
+ *  The default seeds of the generators that are not seeded explicitly are taken
+ *  from a shared counter, so they are thread-safe and never handed out twice.
  */
 public class SeedGenerator implements DiscreteGenerator {
+    /** The multiplier of the LCG of <code>RandomGenerator</code> */
+    static final long MULTIPLIER = 742938285L;
+    /** The modulus of the LCG of <code>RandomGenerator</code>, the Mersenne prime 2<sup>31</sup>-1 */
+    static final long MODULUS = 2147483647L;
+    /** The period of the LCG, 2<sup>31</sup>-2 */
+    public static final long PERIOD = MODULUS - 1;
+
     private static long root = 4851L; // The root seed
     private int spacing;
+    private long jump; // MULTIPLIER^spacing mod MODULUS
     private boolean not_sampled = true; // to use the assigned seed (id Costas)
     private RandomGenerator source;
 
@@ -13,6 +33,7 @@ public class SeedGenerator implements DiscreteGenerator {
     public SeedGenerator (long seed, int spacing) { 
 	source = new RandomGenerator(seed);
 	this.spacing = spacing;
+	this.jump = power(MULTIPLIER, spacing);
     }
 
     // ----- implements Seedable { -----
@@ -24,15 +45,61 @@ public class SeedGenerator implements DiscreteGenerator {
     // ----- implements DiscreteGenerator { -----
     public long sample() {
 	if (not_sampled) not_sampled = false;
-	else
-	    for (int i=0; i<spacing; i++) source.nextLong();
+	else source.setSeed(multiply(source.getSeed(), jump));
 	return getSeed();
     }
 
-    private static SeedGenerator defaut = new SeedGenerator();
+    /**
+     * Computes the seed of the LCG <code>steps</code> draws after the given seed, in O(log steps).
+     * @param seed A seed between 1 and 2<sup>31</sup>-2
+     * @param steps The number of draws to skip, at least 0
+     * @return The seed after the given number of draws
+     */
+    public static long jump(long seed, long steps) {
+	return multiply(seed, power(MULTIPLIER, steps));
+    }
+
+    /**
+     * Maps an arbitrary seed into the valid seeds of the LCG, 1 to 2<sup>31</sup>-2,
+     * where a seed of zero would produce a constant stream. Valid seeds are kept as they are.
+     */
+    public static long toValidSeed(long seed) {
+	return seed > 0 && seed < MODULUS ? seed : Math.floorMod(seed, PERIOD) + 1;
+    }
+
+    /** (x*y) mod m for x, y &lt; 2<sup>31</sup>, folded like in <code>RandomGenerator</code> */
+    private static long multiply(long x, long y) {
+	long z = x * y;
+	z = (z & MODULUS) + (z >>> 31);
+	return z >= MODULUS ? z - MODULUS : z;
+    }
+
+    /** base<sup>exponent</sup> mod m by binary exponentiation, using a<sup>m-1</sup> = 1 */
+    private static long power(long base, long exponent) {
+	long e = Math.floorMod(exponent, PERIOD);
+	long result = 1;
+	while (e > 0) {
+	    if ((e & 1) != 0) result = multiply(result, base);
+	    base = multiply(base, base);
+	    e >>>= 1;
+	}
+	return result;
+    }
+
+    /** The root, the spacing multiplier and the counter of the default seeds, replaced as a whole */
+    private record Defaults(long root, long jump, AtomicLong count) { }
+
+    private static volatile Defaults defaults = new Defaults(root, power(MULTIPLIER, 100000), new AtomicLong());
+
     // package: accessible only from the generators within the package
-    static SeedGenerator getDefaultSeedGenerator() { return defaut; }
+    /**
+     * @return The next default seed, well-spaced from all the others handed out before
+     */
+    static long nextDefaultSeed() {
+	Defaults d = defaults;
+	return multiply(d.root(), power(d.jump(), d.count().getAndIncrement()));
+    }
     static void setDefaultSeedGenerator(long seed, int spacing) {
-	defaut = new SeedGenerator(seed, spacing);
+	defaults = new Defaults(toValidSeed(seed), power(MULTIPLIER, spacing), new AtomicLong());
     }
 }
@@ -0,0 +1,76 @@
+package org.group8.distributions;
+
+/**
+ * A fast 64-bit random number generator, the SplitMix64 generator of
+ * Steele, Lea and Flood (2014). The state is advanced by a fixed odd
+ * increment (the golden gamma) and every output is a bijective mix of the
+ * state, so the period is 2<sup>64</sup>: it cannot be exhausted by any
+ * simulation run. A draw costs an addition, two multiplications and a few
+ * shifts, without any division.
+ * <p>
+ * The uniform samples have 53 random bits and lie in the open interval
+ * (0,1), like those of the <code>RandomGenerator</code>, so the
+ * distributions can take their logarithm safely.
+ */
+public class SplitMix64 implements ContinuousGenerator {
+    /** The increment of the state, the odd integer closest to 2<sup>64</sup>/&phi; */
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long seed;
+    private long state;
+
+    public SplitMix64() { reseed(); }
+    public SplitMix64(long seed) { setSeed(seed); }
+
+    // ----- implements ContinuousGenerator { -----
+    public double sample() {
+        return toUnitInterval(nextLong());
+    }
+    public void fill(double[] out, int off, int len) {
+        long s = state;
+        for (int i = off; i < off + len; i++)
+            out[i] = toUnitInterval(mix(s += GOLDEN_GAMMA));
+        state = s;
+    }
+    // ----- } implements ContinuousGenerator -----
+
+    /**
+     * @return The next 64-bit random number in the sequence
+     */
+    public long nextLong() {
+        return mix(state += GOLDEN_GAMMA);
+    }
+
+    /**
+     * Skips ahead in the sequence in constant time: the state after <i>n</i>
+     * draws is the initial state plus <i>n</i> times the increment.
+     * @param steps The number of draws to skip
+     */
+    public void jump(long steps) {
+        state += steps * GOLDEN_GAMMA;
+    }
+
+    /**
+     * The finalizer of SplitMix64, a bijection of the 64-bit integers
+     * whose output bits all depend on all input bits.
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Maps the top 53 bits of a 64-bit random number to the centre of one of
+     * 2<sup>53</sup> equal subintervals of (0,1), so 0 and 1 are never returned.
+     */
+    static double toUnitInterval(long bits) {
+        return ((bits >>> 11) + 0.5) * 0x1.0p-53;
+    }
+
+    // ----- implements Seedable { -----
+    public void setSeed(long seed) { this.seed = seed; state = seed; }
+    public long getSeed() { return seed; }
+    public void reseed() { setSeed(SeedGenerator.nextDefaultSeed()); }
+    // ----- } implements Seedable -----
+}
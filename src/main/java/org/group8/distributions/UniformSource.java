@@ -0,0 +1,97 @@
+package org.group8.distributions;
+
+/**
+ * The uniform random number generators that can drive the distributions,
+ * through <code>Distributions(ContinuousGenerator)</code>.
+ * <p>
+ * A seed is the root of a family of substreams, one for every random stream
+ * of every replication of an experiment, see {@link #substream(long, int, int)}.
+ * A substream is created from the seed and its indices alone, without any
+ * shared state, so replications can create their streams in parallel.
+ */
+public enum UniformSource {
+    /** The multiplicative LCG of <code>RandomGenerator</code>, period 2<sup>31</sup>-2 */
+    LCG,
+    /** The <code>SplitMix64</code> generator, period 2<sup>64</sup> */
+    SPLITMIX64,
+    /** The LXM generator <code>L64X128MixRandom</code> of <code>java.util.random</code> */
+    L64X128MIX,
+    /** The <code>Xoshiro256PlusPlus</code> generator of <code>java.util.random</code> */
+    XOSHIRO256PP;
+
+    /** The number of substreams of every replication */
+    public static final int STREAMS_PER_REPLICATION = 8;
+
+    /** The length of the substreams of the LCG, 2<sup>20</sup> draws */
+    public static final long LCG_SUBSTREAM_LENGTH = 1L << 20;
+
+    /** The number of replications the LCG has substreams for */
+    public static final int LCG_MAX_REPLICATIONS = (int) (SeedGenerator.PERIOD / LCG_SUBSTREAM_LENGTH / STREAMS_PER_REPLICATION);
+
+    /** The length of the substreams of SplitMix64, 2<sup>40</sup> draws */
+    public static final long SPLITMIX64_SUBSTREAM_LENGTH = 1L << 40;
+
+    /**
+     * Creates a generator of this kind.
+     * @param seed The initial seed; the LCG needs a seed between 1 and 2<sup>31</sup>-2
+     * @return The new generator
+     */
+    public ContinuousGenerator create(long seed) {
+        return switch (this) {
+            case LCG -> new RandomGenerator(seed);
+            case SPLITMIX64 -> new SplitMix64(seed);
+            case L64X128MIX -> new JdkGenerator("L64X128MixRandom", seed);
+            case XOSHIRO256PP -> new JdkGenerator("Xoshiro256PlusPlus", seed);
+        };
+    }
+
+    /**
+     * Creates a substream of a replication. The substreams of a seed start at well separated positions of
+     * the same sequence, so they do not overlap as long as every one of them draws less than its length:
+     * <ul>
+     *   <li>LCG: 2<sup>20</sup> draws, for up to {@link #LCG_MAX_REPLICATIONS} replications; the start is
+     *   reached by jumping ahead in O(log n) with modular exponentiation, and a substream throws an
+     *   <code>IllegalStateException</code> rather than draw into the next one;</li>
+     *   <li>SplitMix64: 2<sup>40</sup> draws, for 2<sup>21</sup> replications; the start is reached in
+     *   constant time;</li>
+     * </ul>
+     * The 64-bit generators of <code>java.util.random</code> are seeded instead, in constant time, from the seed
+     * and the index of the substream through the SplitMix64 mixer. The LXM generator L64X128MixRandom cannot
+     * jump, and its mixed seeds give every substream its own LCG increment, so they are distinct sequences
+     * rather than separate parts of one sequence. Xoshiro256++ could be positioned by leaps and jumps, but that
+     * costs a leap per replication for every stream; the seeded substreams start at effectively random points
+     * of its period of 2<sup>256</sup>-1, where an overlap of any two of them is practically impossible.
+     *
+     * @param seed The root seed of the experiment
+     * @param replication The index of the replication, from 0
+     * @param stream The index of the stream within the replication, from 0 to {@link #STREAMS_PER_REPLICATION}-1
+     * @return The new generator, positioned at the start of the substream
+     * @throws IllegalArgumentException if an index is out of range
+     */
+    public ContinuousGenerator substream(long seed, int replication, int stream) {
+        if (replication < 0 || stream < 0 || stream >= STREAMS_PER_REPLICATION
+                || (this == LCG && replication >= LCG_MAX_REPLICATIONS)) {
+            throw new IllegalArgumentException("No substream " + stream + " of replication " + replication + " for " + this);
+        }
+        long index = (long) replication * STREAMS_PER_REPLICATION + stream;
+        return switch (this) {
+            case LCG -> new RandomSubstream(SeedGenerator.jump(SeedGenerator.toValidSeed(seed), index * LCG_SUBSTREAM_LENGTH),
+                    LCG_SUBSTREAM_LENGTH);
+            case SPLITMIX64 -> {
+                SplitMix64 generator = new SplitMix64(seed);
+                generator.jump(index * SPLITMIX64_SUBSTREAM_LENGTH);
+                yield generator;
+            }
+            case L64X128MIX -> new JdkGenerator("L64X128MixRandom", SplitMix64.mix(seed + index * SplitMix64.GOLDEN_GAMMA));
+            case XOSHIRO256PP -> new JdkGenerator("Xoshiro256PlusPlus", SplitMix64.mix(seed + index * SplitMix64.GOLDEN_GAMMA));
+        };
+    }
+
+    /**
+     * Parses a name as given on the command line, e.g. <code>splitmix64</code>.
+     * @throws IllegalArgumentException if there is no source of that name
+     */
+    public static UniformSource parse(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+}
@@ -0,0 +1,24 @@
+package org.group8.distributions;
+
+/**
+ * The methods with which <code>Negexp</code>, <code>Normal</code> and
+ * <code>LogNormal</code> turn uniform samples into their distribution.
+ */
+public enum VariateMethod {
+    /** The Ziggurat method of Marsaglia and Tsang, the default */
+    ZIGGURAT,
+    /**
+     * The original transformations: the inverse of the distribution function
+     * for the exponential and the Box-Muller transform for the normal; they
+     * reproduce the samples of earlier versions
+     */
+    TRANSFORM;
+
+    /**
+     * Parses a name as given on the command line, e.g. <code>ziggurat</code>.
+     * @throws IllegalArgumentException if there is no method of that name
+     */
+    public static VariateMethod parse(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+}
@@ -0,0 +1,110 @@
+package org.group8.distributions;
+
+/**
+ * The Ziggurat method of Marsaglia and Tsang (2000) for the exponential and
+ * the normal distributions, in the variant of Doornik (2005) that works on
+ * uniform doubles rather than on 32-bit integers.
+ * <p>
+ * The density is covered by N strips of equal area: N-1 rectangles stacked on
+ * a base strip that also holds the tail. A sample picks a strip and a point in
+ * it from a single uniform sample, whose leading bits give the strip and the
+ * remaining bits the position. The point lies under the density, and is
+ * returned as it is, in about 99% of the draws; the rest are resolved by
+ * rejection at the edge of the strip or by sampling the tail, so the costly
+ * <code>log</code> and <code>exp</code> calls of the transformation methods
+ * are rarely made.
+ * <p>
+ * The position has the bits of the uniform sample left after the strip index,
+ * 8 bits for the 256 strips of the exponential and 7 for the 128 of the
+ * normal: 45 and 46 bits with the 64-bit generators, but only 23 and 24 with
+ * the 31-bit LCG of <code>RandomGenerator</code>, which makes the samples of
+ * the LCG a little coarser than those of the transformation methods.
+ */
+final class Ziggurat {
+    /** The number of strips of the exponential, and the right end of its base rectangle */
+    private static final int EXP_N = 256;
+    private static final double EXP_R = 7.69711747013104972;
+    /** The area of every strip of the exponential */
+    private static final double EXP_V = 3.949659822581572e-3;
+
+    /** The number of strips of the normal, and the right end of its base rectangle */
+    private static final int NORM_N = 128;
+    private static final double NORM_R = 3.442619855899;
+    /** The area of every strip of the normal */
+    private static final double NORM_V = 9.91256303526217e-3;
+
+    /** The right ends of the strips, their ratios and the density at the right ends */
+    private static final double[] EXP_X = new double[EXP_N + 1];
+    private static final double[] EXP_RATIO = new double[EXP_N];
+    private static final double[] EXP_F = new double[EXP_N + 1];
+    private static final double[] NORM_X = new double[NORM_N + 1];
+    private static final double[] NORM_RATIO = new double[NORM_N];
+    private static final double[] NORM_F = new double[NORM_N + 1];
+
+    static {
+        // the base strip is given the width of a rectangle of area v, the tail included
+        EXP_X[0] = EXP_V / Math.exp(-EXP_R);
+        EXP_X[1] = EXP_R;
+        for (int i = 1; i < EXP_N - 1; i++)
+            EXP_X[i + 1] = -Math.log(EXP_V / EXP_X[i] + Math.exp(-EXP_X[i]));
+        for (int i = 0; i < EXP_N; i++)
+            EXP_RATIO[i] = EXP_X[i + 1] / EXP_X[i];
+        for (int i = 0; i <= EXP_N; i++)
+            EXP_F[i] = Math.exp(-EXP_X[i]);
+
+        NORM_X[0] = NORM_V / Math.exp(-0.5 * NORM_R * NORM_R);
+        NORM_X[1] = NORM_R;
+        for (int i = 1; i < NORM_N - 1; i++)
+            NORM_X[i + 1] = Math.sqrt(-2 * Math.log(NORM_V / NORM_X[i] + Math.exp(-0.5 * NORM_X[i] * NORM_X[i])));
+        for (int i = 0; i < NORM_N; i++)
+            NORM_RATIO[i] = NORM_X[i + 1] / NORM_X[i];
+        for (int i = 0; i <= NORM_N; i++)
+            NORM_F[i] = Math.exp(-0.5 * NORM_X[i] * NORM_X[i]);
+    }
+
+    private Ziggurat() { }
+
+    /**
+     * @return A sample of the exponential distribution of mean 1
+     */
+    static double exponential(ContinuousGenerator source) {
+        while (true) {
+            double v = source.sample() * EXP_N;
+            int i = (int) v;
+            double u = v - i;
+            if (u < EXP_RATIO[i])
+                return u * EXP_X[i];
+            if (i == 0)
+                // the tail beyond r is r plus an exponential sample, as the distribution is memoryless
+                return EXP_R - Math.log(source.sample());
+            double x = u * EXP_X[i];
+            if (EXP_F[i + 1] + source.sample() * (EXP_F[i] - EXP_F[i + 1]) < Math.exp(-x))
+                return x;
+        }
+    }
+
+    /**
+     * @return A sample of the standard normal distribution
+     */
+    static double normal(ContinuousGenerator source) {
+        while (true) {
+            double v = source.sample() * NORM_N;
+            int i = (int) v;
+            double u = 2 * (v - i) - 1;
+            if (Math.abs(u) < NORM_RATIO[i])
+                return u * NORM_X[i];
+            if (i == 0) {
+                // Marsaglia's (1964) method for the tail beyond r
+                double x, y;
+                do {
+                    x = -Math.log(source.sample()) / NORM_R;
+                    y = -Math.log(source.sample());
+                } while (2 * y < x * x);
+                return u < 0 ? -NORM_R - x : NORM_R + x;
+            }
+            double x = u * NORM_X[i];
+            if (NORM_F[i + 1] + source.sample() * (NORM_F[i] - NORM_F[i + 1]) < Math.exp(-0.5 * x * x))
+                return x;
+        }
+    }
+}
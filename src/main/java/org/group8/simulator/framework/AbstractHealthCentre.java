@@ -2,36 +2,74 @@ package org.group8.simulator.framework;
 
 import org.group8.controller.IControllerForP;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Abstract class representing the core logic of a healthcare simulation.
  * This class provides the base structure for handling simulation events,
  * controlling the simulation thread, and managing the simulation clock.
  * It extends {@link Thread} to allow the simulation to run in a separate thread.
+ * <p>
+ * The speed of the simulation is controlled in one of three ways:
+ * <ul>
+ *   <li>with a speed ratio, the simulation time is paced against the wall clock: every event is
+ *   processed when its wall-clock deadline has passed, so all events that are due run in one burst
+ *   and the thread only sleeps until the deadline of the next event;</li>
+ *   <li>with a delay, the thread sleeps a fixed time after every step;</li>
+ *   <li>with neither, the simulation runs unthrottled, without sleeping at all.</li>
+ * </ul>
+ * <p>
+ * The run ends at the simulation time, or earlier when the model stops it. With a checkpoint interval,
+ * the model is asked at every checkpoint whether its estimates have reached the requested precision,
+ * and the run ends at the first checkpoint where they have.
  */
 public abstract class AbstractHealthCentre extends Thread implements IHealthCentre {
 
+    /** The longest single sleep while waiting for the wall-clock deadline of the next event */
+    public static final long MAX_PACING_SLEEP_MILLIS = 50;
+
     private double simulationTime = 0;
     private long delay = 0;
 
+    // simulation time units per wall-clock second, 0 if the simulation is not paced
+    private volatile double speedRatio = 0;
+
+    // the point at which simulation time and wall-clock time were last aligned
+    private double pacedRatio = 0;
+    private double paceStartTime;
+    private long paceStartNanos;
+
     // Object and boolean to control the simulation's thread
     private final Object lock = new Object();
     private boolean pause = false;
 
-    private Clock clock;
+    // set by the model to end the run before the simulation time is reached
+    private boolean stopRequested = false;
+
+    // simulation time between the precision checkpoints, 0 for none, and the time of the next one
+    private double checkpointInterval = 0;
+    private double nextCheckpoint;
+
+    protected final Clock clock;
 
     protected EventList eventList;
 
+    // the event object handed to processEvent, reused for every event to avoid allocations
+    private final Event currentEvent = new Event(null, 0);
+
     protected IControllerForP controller;
 
     /**
      * Constructs an AbstractHealthCentre with a controller responsible
      * for managing simulation events and the graphical interface.
+     * Every health centre has its own clock and event list, so that several
+     * simulations can run side by side in the same JVM.
      *
      * @param controller the controller for managing simulation events and UI
      */
     public AbstractHealthCentre(IControllerForP controller) {
         this.controller = controller;
-        clock = Clock.getInstance();
+        clock = new Clock();
         eventList = new EventList();
     }
 
@@ -45,6 +83,21 @@ public abstract class AbstractHealthCentre extends Thread implements IHealthCent
         return simulationTime;
     }
 
+    @Override
+    public double getCurrentTime() {
+        return clock.getTime();
+    }
+
+    @Override
+    public void setEventQueueType(EventQueueType type) {
+        eventList.setQueueType(type);
+    }
+
+    @Override
+    public EventQueueType getEventQueueType() {
+        return eventList.getQueueType();
+    }
+
     @Override
     public void setDelay(long time) {
         delay = time;
@@ -55,12 +108,36 @@ public abstract class AbstractHealthCentre extends Thread implements IHealthCent
         return delay;
     }
 
+    @Override
+    public void setSpeedRatio(double ratio) {
+        speedRatio = Math.max(ratio, 0);
+    }
+
+    @Override
+    public double getSpeedRatio() {
+        return speedRatio;
+    }
+
+    @Override
+    public void setCheckpointInterval(double interval) {
+        if (!(interval >= 0)) {
+            throw new IllegalArgumentException("Invalid checkpoint interval: " + interval);
+        }
+        checkpointInterval = interval;
+    }
+
+    @Override
+    public double getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
     /**
      * Main loop for running the simulation. This method initializes the simulation,
      * processes events, and manages pauses and delays.
      */
     public void run() {
         init(); // Initialize and create the first event
+        nextCheckpoint = clock.getTime() + checkpointInterval;
         while (simulate()) {
 
             // Check if thread is interrupted
@@ -72,6 +149,8 @@ public abstract class AbstractHealthCentre extends Thread implements IHealthCent
             // this is the pause mechanism - monitor, which allows the simulation to be paused
             synchronized (lock) {
                 while (pause) {
+                    // realign the pacing after the pause instead of catching up with the wall clock
+                    pacedRatio = 0;
                     try {
                         lock.wait();
                     } catch (InterruptedException e) {
@@ -81,10 +160,12 @@ public abstract class AbstractHealthCentre extends Thread implements IHealthCent
                 }
             }
 
-            delay();
+            if (!pace()) {
+                continue;
+            }
             controller.updateProgressBar();
 
-            Trace.out(Trace.Level.INFO, "\nPhase A, time: " + currentTime());
+            Trace.out(Trace.Level.INFO, () -> "\nPhase A, time: " + currentTime());
             clock.setTime(currentTime());
 
             Trace.out(Trace.Level.INFO, "\nPhase B:");
@@ -92,6 +173,8 @@ public abstract class AbstractHealthCentre extends Thread implements IHealthCent
 
             Trace.out(Trace.Level.INFO, "\nPhase C:");
             tryEventC();
+
+            checkpoint();
         }
 
         controller.updateProgressBar();
@@ -104,13 +187,15 @@ public abstract class AbstractHealthCentre extends Thread implements IHealthCent
      */
     private void processEventB() {
         while (eventList.getNextTime() == clock.getTime()) {
-            processEvent(eventList.remove());
+            processEvent(eventList.remove(currentEvent));
         }
     }
 
     /**
      * Abstract method to be implemented by subclasses to define
      * how an event should be processed.
+     * The same event object is reused for every event, so implementations
+     * must not keep a reference to it after returning.
      *
      * @param e the event to process
      */
@@ -133,12 +218,45 @@ public abstract class AbstractHealthCentre extends Thread implements IHealthCent
 
     /**
      * Determines if the simulation should continue based on the current
-     * simulation time and the total simulation duration.
+     * simulation time and the total simulation duration, unless the model has stopped it.
      *
      * @return {@code true} if the simulation should continue, {@code false} otherwise
      */
     private boolean simulate() {
-        return clock.getTime() < simulationTime;
+        return !stopRequested && clock.getTime() < simulationTime;
+    }
+
+    /**
+     * Ends the run after the events of the current time, before the simulation time is reached,
+     * e.g. when the estimates are precise enough. The statistics are gathered as at a normal end.
+     */
+    protected void stopSimulation() {
+        stopRequested = true;
+    }
+
+    /**
+     * Stops the run if a checkpoint has been passed and the model reports that its estimates are precise enough.
+     * Checkpoints that were skipped over by a long gap between events are checked only once.
+     */
+    private void checkpoint() {
+        if (checkpointInterval <= 0 || clock.getTime() < nextCheckpoint) {
+            return;
+        }
+        nextCheckpoint = (Math.floor(clock.getTime() / checkpointInterval) + 1) * checkpointInterval;
+        if (isPrecisionReached()) {
+            Trace.out(Trace.Level.INFO, () -> "Requested precision reached at: " + clock.getTime());
+            stopSimulation();
+        }
+    }
+
+    /**
+     * Checks whether the estimates of the model have reached the requested precision, so the run can end.
+     * Called at every checkpoint. The default never ends the run early.
+     *
+     * @return {@code true} to end the run
+     */
+    protected boolean isPrecisionReached() {
+        return false;
     }
 
     /**
@@ -152,11 +270,49 @@ public abstract class AbstractHealthCentre extends Thread implements IHealthCent
      */
     protected abstract void statistics();
 
+    /**
+     * Controls the speed of the simulation before the next step. With a speed ratio, waits until the
+     * wall-clock deadline of the next event, sleeping at most {@link #MAX_PACING_SLEEP_MILLIS} at a time
+     * so that pausing and stopping stay responsive. Otherwise sleeps for the delay, if any.
+     *
+     * @return {@code true} if the next step is due, {@code false} if the caller has to check again
+     */
+    private boolean pace() {
+        double ratio = speedRatio;
+        if (ratio <= 0) {
+            pacedRatio = 0;
+            delay();
+            return true;
+        }
+        if (ratio != pacedRatio) {
+            // align the simulation time with the wall clock whenever the speed changes
+            pacedRatio = ratio;
+            paceStartTime = clock.getTime();
+            paceStartNanos = System.nanoTime();
+        }
+        long deadline = paceStartNanos + (long) ((currentTime() - paceStartTime) / ratio * 1e9);
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(remaining) + 1, MAX_PACING_SLEEP_MILLIS));
+        } catch (InterruptedException e) {
+            Trace.out(Trace.Level.INFO, "Thread interrupted while sleeping");
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
     /**
      * Introduces a delay during the simulation to simulate real-time progress.
+     * A delay of zero runs the simulation unthrottled, without sleeping at all.
      */
     private void delay() {
-        Trace.out(Trace.Level.INFO, "Delay: " + delay);
+        if (delay <= 0) {
+            return;
+        }
+        Trace.out(Trace.Level.INFO, () -> "Delay: " + delay);
         try {
             Thread.sleep(delay);
         } catch (InterruptedException e) {
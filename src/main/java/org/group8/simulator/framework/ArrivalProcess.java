@@ -1,6 +1,5 @@
 package org.group8.simulator.framework;
 
-import org.group8.distributions.ContinuousGenerator;
 import org.group8.distributions.SampleGenerator;
 
 /**
@@ -9,9 +8,10 @@ import org.group8.distributions.SampleGenerator;
  */
 public class ArrivalProcess {
 
-    private SampleGenerator generator;
+    private SampleBuffer interArrivalTimes;
     private EventList eventList;
     private IEventType type;
+    private Clock clock;
 
     /**
      * Constructs a new ArrivalProcess with the specified generator, event list, and event type.
@@ -21,17 +21,30 @@ public class ArrivalProcess {
      * @param type  the type of event to generate (e.g., arrival at a specific service point)
      */
     public ArrivalProcess(SampleGenerator g, EventList list, IEventType type) {
-        this.generator = g;
+        this(g, list, type, Clock.getInstance());
+    }
+
+    /**
+     * Constructs a new ArrivalProcess bound to the clock of a particular simulation.
+     *
+     * @param g     the generator to generate the next event time (e.g., based on a distribution)
+     * @param list  the event list where the generated event will be added
+     * @param type  the type of event to generate (e.g., arrival at a specific service point)
+     * @param clock the clock of the simulation the process belongs to
+     */
+    public ArrivalProcess(SampleGenerator g, EventList list, IEventType type, Clock clock) {
+        this.interArrivalTimes = new SampleBuffer(g);
         this.eventList = list;
         this.type = type;
+        this.clock = clock;
     }
 
     /**
      * Generates the next event by sampling from the generator and adding the event
-     * to the event list with a time offset.
+     * to the event list with a time offset. The samples are drawn in bulk into a buffer,
+     * and no event object is allocated.
      */
     public void generateNext() {
-        Event e = new Event(type, Clock.getInstance().getTime() + generator.sampleAsDouble());
-        eventList.add(e);
+        eventList.add(type, clock.getTime() + interArrivalTimes.next());
     }
 }
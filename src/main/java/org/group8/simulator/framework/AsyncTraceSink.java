@@ -0,0 +1,126 @@
+package org.group8.simulator.framework;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The AsyncTraceSink class writes trace messages through logback in a background thread.
+ * <p>
+ * Messages are put into a bounded ring buffer, which never makes the caller wait: when the
+ * buffer is full the message is dropped and counted, and the number of dropped messages is
+ * reported with the next written batch. The writer thread is a daemon thread started with the
+ * first message, and the buffer is flushed when the JVM shuts down.
+ */
+class AsyncTraceSink {
+
+    private static final int CAPACITY = 8192;
+    private static final int BATCH_SIZE = 256;
+    private static final long FLUSH_TIMEOUT_MILLIS = 5000;
+
+    private static final Logger logger = LoggerFactory.getLogger(Trace.class);
+
+    private final ArrayBlockingQueue<Entry> buffer = new ArrayBlockingQueue<>(CAPACITY);
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long written = 0;
+    private volatile Thread writer;
+
+    /**
+     * A message waiting in the buffer.
+     */
+    private record Entry(Trace.Level level, String text) {
+    }
+
+    /**
+     * Adds a message to the buffer, or drops it if the buffer is full.
+     *
+     * @param level the level of the message
+     * @param text  the text of the message
+     */
+    void offer(Trace.Level level, String text) {
+        if (writer == null) {
+            startWriter();
+        }
+        if (buffer.offer(new Entry(level, text))) {
+            accepted.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until all accepted messages have been written, at most a few seconds.
+     */
+    void flush() {
+        long target = accepted.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+        while (written < target && writer != null && writer.isAlive() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of messages dropped because the buffer was full.
+     *
+     * @return the number of dropped messages
+     */
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private synchronized void startWriter() {
+        if (writer != null) {
+            return;
+        }
+        Thread thread = new Thread(this::writeLoop, "trace-writer");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "trace-flush"));
+        writer = thread;
+    }
+
+    /**
+     * Writes the buffered messages in batches until the JVM exits.
+     */
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+        long reportedDrops = 0;
+        while (true) {
+            try {
+                batch.add(buffer.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            buffer.drainTo(batch, BATCH_SIZE - 1);
+            for (Entry entry : batch) {
+                write(entry.level(), entry.text());
+            }
+            long drops = dropped.get();
+            if (drops > reportedDrops) {
+                logger.warn("{} trace messages dropped", drops - reportedDrops);
+                reportedDrops = drops;
+            }
+            written += batch.size();
+            batch.clear();
+        }
+    }
+
+    private static void write(Trace.Level level, String text) {
+        switch (level) {
+            case INFO -> logger.info(text);
+            case WAR -> logger.warn(text);
+            case ERR -> logger.error(text);
+        }
+    }
+}
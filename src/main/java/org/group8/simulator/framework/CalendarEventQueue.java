@@ -0,0 +1,328 @@
+package org.group8.simulator.framework;
+
+import java.util.Arrays;
+
+/**
+ * An {@link EventQueue} implemented as a calendar queue (R. Brown, "Calendar queues: a fast O(1)
+ * priority queue implementation for the simulation event set problem", CACM 31(10), 1988).
+ * <p>
+ * Time is divided into "days" of a fixed width, and the days are mapped round-robin onto a
+ * "year" of buckets. Every bucket holds its events as a list sorted by time and order key, so the earliest
+ * event is found by sweeping the buckets from the current day on. The number of buckets is
+ * doubled or halved as the queue grows or shrinks, and the day width is then recomputed from
+ * the separation of the earliest events, which keeps a few events per bucket and gives O(1)
+ * amortized adds and removals.
+ * <p>
+ * The events are stored in a node pool of parallel primitive arrays, the bucket lists are linked
+ * through an {@code int[]}, and removed nodes are recycled, so no objects are allocated per event.
+ * Every node also stores its day number, which keeps the bucket sweep exact at day boundaries.
+ */
+public class CalendarEventQueue implements EventQueue {
+
+    private static final int MIN_BUCKETS = 16;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int SAMPLE_SIZE = 25;
+    private static final int NONE = -1;
+
+    // node pool
+    private double[] nodeTimes = new double[INITIAL_CAPACITY];
+    private long[] nodeOrders = new long[INITIAL_CAPACITY];
+    private int[] nodeTypes = new int[INITIAL_CAPACITY];
+    private int[] nodePayloads = new int[INITIAL_CAPACITY];
+    private long[] nodeDays = new long[INITIAL_CAPACITY];
+    private int[] nextNodes = new int[INITIAL_CAPACITY];
+    private int allocated = 0;
+    private int freeList = NONE;
+
+    // calendar
+    private int[] heads = newBuckets(MIN_BUCKETS);
+    private int mask = MIN_BUCKETS - 1;
+    private double width = 1.0;
+    private int size = 0;
+
+    // sweep position: no pending event lies before the current day
+    private int currentBucket = 0;
+    private long currentDay = 0;
+
+    // earliest node once located, NONE if it has to be searched again
+    private int earliest = NONE;
+
+    // events taken out while sampling the day width
+    private final double[] sampleTimes = new double[SAMPLE_SIZE];
+    private final long[] sampleOrders = new long[SAMPLE_SIZE];
+    private final int[] sampleTypes = new int[SAMPLE_SIZE];
+    private final int[] samplePayloads = new int[SAMPLE_SIZE];
+
+    @Override
+    public void add(double time, long order, int type, int payload) {
+        insert(time, order, type, payload);
+        if (size > 2 * heads.length) {
+            resize(heads.length * 2);
+        }
+    }
+
+    @Override
+    public double nextTime() {
+        if (size == 0) {
+            return Double.MAX_VALUE;
+        }
+        locate();
+        return nodeTimes[earliest];
+    }
+
+    @Override
+    public int nextType() {
+        locate();
+        return nodeTypes[earliest];
+    }
+
+    @Override
+    public int nextPayload() {
+        locate();
+        return nodePayloads[earliest];
+    }
+
+    @Override
+    public long nextOrder() {
+        locate();
+        return nodeOrders[earliest];
+    }
+
+    @Override
+    public void removeNext() {
+        removeEarliest();
+        if (size < heads.length / 2 && heads.length > MIN_BUCKETS) {
+            resize(heads.length / 2);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the current number of buckets.
+     *
+     * @return the number of buckets
+     */
+    public int getBucketCount() {
+        return heads.length;
+    }
+
+    /**
+     * Returns the current day width.
+     *
+     * @return the width of a bucket in time units
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Adds an event without resizing the calendar.
+     */
+    private void insert(double time, long order, int type, int payload) {
+        int node = allocateNode();
+        nodeTimes[node] = time;
+        nodeOrders[node] = order;
+        nodeTypes[node] = type;
+        nodePayloads[node] = payload;
+        link(node);
+        size++;
+
+        // keep the sweep position at or before the earliest event
+        long day = nodeDays[node];
+        if (day < currentDay) {
+            currentDay = day;
+            currentBucket = (int) (day & mask);
+        }
+        if (earliest != NONE && before(node, earliest)) {
+            earliest = node;
+            currentDay = day;
+            currentBucket = (int) (day & mask);
+        }
+    }
+
+    /**
+     * Checks if the first node comes before the second one, by time and then by order key.
+     */
+    private boolean before(int first, int second) {
+        return nodeTimes[first] < nodeTimes[second]
+                || (nodeTimes[first] == nodeTimes[second] && nodeOrders[first] < nodeOrders[second]);
+    }
+
+    /**
+     * Computes the day of a node and inserts it into its bucket, keeping the bucket sorted by time and order key.
+     */
+    private void link(int node) {
+        long day = (long) Math.floor(nodeTimes[node] / width);
+        nodeDays[node] = day;
+        int bucket = (int) (day & mask);
+
+        int previous = NONE;
+        int current = heads[bucket];
+        while (current != NONE && before(current, node)) {
+            previous = current;
+            current = nextNodes[current];
+        }
+        nextNodes[node] = current;
+        if (previous == NONE) {
+            heads[bucket] = node;
+        } else {
+            nextNodes[previous] = node;
+        }
+    }
+
+    /**
+     * Finds the earliest event by sweeping one year of buckets from the current day on,
+     * and falls back to a direct search of all bucket heads if the year is empty.
+     */
+    private void locate() {
+        if (earliest != NONE) {
+            return;
+        }
+        int bucket = currentBucket;
+        long day = currentDay;
+        for (int i = 0; i < heads.length; i++) {
+            int head = heads[bucket];
+            if (head != NONE && nodeDays[head] <= day) {
+                earliest = head;
+                currentBucket = bucket;
+                currentDay = day;
+                return;
+            }
+            bucket = (bucket + 1) & mask;
+            day++;
+        }
+        directSearch();
+    }
+
+    /**
+     * Finds the earliest event among all bucket heads and moves the sweep position to its day.
+     */
+    private void directSearch() {
+        int best = NONE;
+        int bestBucket = 0;
+        for (int bucket = 0; bucket < heads.length; bucket++) {
+            int head = heads[bucket];
+            if (head != NONE && (best == NONE || before(head, best))) {
+                best = head;
+                bestBucket = bucket;
+            }
+        }
+        earliest = best;
+        currentBucket = bestBucket;
+        currentDay = nodeDays[best];
+    }
+
+    /**
+     * Removes the earliest event without resizing the calendar.
+     */
+    private void removeEarliest() {
+        locate();
+        int node = earliest;
+        heads[currentBucket] = nextNodes[node];
+        nextNodes[node] = freeList;
+        freeList = node;
+        size--;
+        earliest = NONE;
+    }
+
+    /**
+     * Changes the number of buckets, recomputes the day width and redistributes all events.
+     */
+    private void resize(int bucketCount) {
+        width = sampleWidth();
+
+        // chain all nodes into one list before the buckets are replaced
+        int all = NONE;
+        for (int head : heads) {
+            int node = head;
+            while (node != NONE) {
+                int next = nextNodes[node];
+                nextNodes[node] = all;
+                all = node;
+                node = next;
+            }
+        }
+
+        heads = newBuckets(bucketCount);
+        mask = bucketCount - 1;
+        while (all != NONE) {
+            int next = nextNodes[all];
+            link(all);
+            all = next;
+        }
+
+        earliest = NONE;
+        if (size > 0) {
+            directSearch();
+        }
+    }
+
+    /**
+     * Estimates a day width of three times the average separation of the earliest events,
+     * ignoring separations larger than twice the average as in Brown's original algorithm.
+     * The sampled events are removed and added back.
+     *
+     * @return the new day width, or the current width if it cannot be estimated
+     */
+    private double sampleWidth() {
+        int samples = Math.min(size, SAMPLE_SIZE);
+        if (samples < 2) {
+            return width;
+        }
+        for (int i = 0; i < samples; i++) {
+            locate();
+            sampleTimes[i] = nodeTimes[earliest];
+            sampleOrders[i] = nodeOrders[earliest];
+            sampleTypes[i] = nodeTypes[earliest];
+            samplePayloads[i] = nodePayloads[earliest];
+            removeEarliest();
+        }
+        for (int i = 0; i < samples; i++) {
+            insert(sampleTimes[i], sampleOrders[i], sampleTypes[i], samplePayloads[i]);
+        }
+
+        double average = (sampleTimes[samples - 1] - sampleTimes[0]) / (samples - 1);
+        double total = 0;
+        int count = 0;
+        for (int i = 1; i < samples; i++) {
+            double separation = sampleTimes[i] - sampleTimes[i - 1];
+            if (separation <= 2 * average) {
+                total += separation;
+                count++;
+            }
+        }
+        double newWidth = count > 0 ? 3 * total / count : 0;
+        return newWidth > 0 && Double.isFinite(newWidth) ? newWidth : width;
+    }
+
+    /**
+     * Takes a node from the free list, or from the end of the pool, growing it if necessary.
+     */
+    private int allocateNode() {
+        if (freeList != NONE) {
+            int node = freeList;
+            freeList = nextNodes[node];
+            return node;
+        }
+        if (allocated == nodeTimes.length) {
+            int capacity = allocated * 2;
+            nodeTimes = Arrays.copyOf(nodeTimes, capacity);
+            nodeOrders = Arrays.copyOf(nodeOrders, capacity);
+            nodeTypes = Arrays.copyOf(nodeTypes, capacity);
+            nodePayloads = Arrays.copyOf(nodePayloads, capacity);
+            nodeDays = Arrays.copyOf(nodeDays, capacity);
+            nextNodes = Arrays.copyOf(nextNodes, capacity);
+        }
+        return allocated++;
+    }
+
+    private static int[] newBuckets(int count) {
+        int[] buckets = new int[count];
+        Arrays.fill(buckets, NONE);
+        return buckets;
+    }
+}
@@ -2,7 +2,9 @@ package org.group8.simulator.framework;
 
 /**
  * The Clock class represents a simulation clock that keeps track of the current simulation time.
- * It follows the singleton pattern to ensure only one instance of the clock is used throughout the simulation.
+ * Every simulation owns its own clock, so that several simulations can run in the same JVM.
+ * A shared instance is still available through {@link #getInstance()} for code that is not
+ * bound to a particular simulation.
  */
 public class Clock {
 
@@ -10,19 +12,19 @@ public class Clock {
     private static Clock instance;
 
     /**
-     * Private constructor to prevent instantiation from outside the class.
+     * Constructs a new clock for one simulation.
      * Initializes the simulation time to 0.
      */
-    private Clock() {
+    public Clock() {
         time = 0;
     }
 
     /**
-     * Returns the singleton instance of the Clock. If no instance exists, it creates one.
+     * Returns the shared instance of the Clock. If no instance exists, it creates one.
      *
-     * @return the singleton instance of the Clock
+     * @return the shared instance of the Clock
      */
-    public static Clock getInstance() {
+    public static synchronized Clock getInstance() {
         if (instance == null) {
             instance = new Clock();
         }
@@ -2,12 +2,15 @@ package org.group8.simulator.framework;
 
 /**
  * The Event class represents an event in the simulation, characterized by its type and the time it occurs.
- * It implements {@link Comparable} to allow events to be sorted based on their occurrence time.
+ * It implements {@link Comparable} to allow events to be sorted based on their occurrence time; simultaneous
+ * events are ordered by the priority of their type and then by the sequence number the event list gave them.
  */
 public class Event implements Comparable<Event> {
 
     private IEventType type;
     private double time;
+    private long sequence;
+    private int payload;
 
     /**
      * Constructs an Event with the specified type and time.
@@ -57,16 +60,55 @@ public class Event implements Comparable<Event> {
     }
 
     /**
-     * Compares this event to another event based on their time.
+     * Sets the payload of the event, such as the index of the server whose service ends.
+     *
+     * @param payload the payload
+     */
+    public void setPayload(int payload) {
+        this.payload = payload;
+    }
+
+    /**
+     * Returns the payload of the event.
+     *
+     * @return the payload, 0 if the event has none
+     */
+    public int getPayload() {
+        return this.payload;
+    }
+
+    /**
+     * Sets the sequence number of the event, which records the order in which events were added to the event list.
+     *
+     * @param sequence the sequence number
+     */
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * Returns the sequence number of the event.
+     *
+     * @return the sequence number, 0 for events that have not been through an event list
+     */
+    public long getSequence() {
+        return this.sequence;
+    }
+
+    /**
+     * Compares this event to another event based on their time, then on the priority
+     * of their types and finally on their sequence numbers.
      *
      * @param other the other event to compare with
-     * @return -1 if this event occurs earlier, 1 if later, and 0 if at the same time
+     * @return -1 if this event is processed earlier, 1 if later, and 0 if the order is not defined
      */
     @Override
     public int compareTo(Event other) {
         if (this.time < other.time) return -1;
         else if (this.time > other.time) return 1;
-        return 0;
+        int priority = Integer.compare(this.type.priority(), other.type.priority());
+        if (priority != 0) return priority;
+        return Long.compare(this.sequence, other.sequence);
     }
 
 }
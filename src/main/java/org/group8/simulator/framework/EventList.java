@@ -1,40 +1,146 @@
 package org.group8.simulator.framework;
 
-import java.util.PriorityQueue;
+import java.util.Arrays;
 
 /**
- * The EventList class manages a list of simulation events using a priority queue.
- * Events are processed in order based on their scheduled time.
+ * The EventList class manages the pending simulation events, which are processed in order
+ * of their scheduled time.
+ * <p>
+ * The events are kept by an {@link EventQueue} strategy selected with {@link EventQueueType}:
+ * a 4-ary heap by default, or a calendar queue for large pending event sets. Both store the
+ * event times, the ordinals of the event types and the payloads in primitive arrays, so adding and removing
+ * events does not allocate objects. {@link Event} objects are only used at the boundary:
+ * the simulation loop reuses one event through {@link #remove(Event)}.
+ * <p>
+ * Simultaneous events are ordered by the {@link IEventType#priority() priority} of their type and
+ * then by the order in which they were added, using a monotonic sequence number. The order of
+ * the events is therefore fully defined, and runs with a fixed seed are reproducible whatever
+ * the event queue implementation.
  */
 public class EventList {
 
-    private PriorityQueue<Event> list = new PriorityQueue<Event>();
+    /** The highest event type priority */
+    public static final int MAX_PRIORITY = (1 << 15) - 1;
+
+    // the order key holds the priority in its upper bits and the sequence number in the lower 48 bits
+    private static final int SEQUENCE_BITS = 48;
+
+    private EventQueue queue;
+    private EventQueueType queueType;
+
+    // event types by ordinal, filled in as the types are added
+    private IEventType[] typeTable = new IEventType[8];
+
+    // sequence number of the next added event
+    private long sequence = 0;
 
     /**
-     * Constructs an empty EventList.
+     * Constructs an empty EventList backed by a heap.
      */
     public EventList() {
+        this(EventQueueType.HEAP);
+    }
+
+    /**
+     * Constructs an empty EventList backed by the given queue type.
+     *
+     * @param queueType the event queue implementation to use
+     */
+    public EventList(EventQueueType queueType) {
+        setQueueType(queueType);
+    }
+
+    /**
+     * Selects the event queue implementation. This is only possible while the list is empty,
+     * that is before the simulation has been initialized.
+     *
+     * @param queueType the event queue implementation to use
+     * @throws IllegalStateException if the list already contains events
+     */
+    public void setQueueType(EventQueueType queueType) {
+        if (queue != null && queue.size() > 0) {
+            throw new IllegalStateException("The event queue cannot be changed while events are pending");
+        }
+        this.queue = queueType.create();
+        this.queueType = queueType;
+    }
+
+    /**
+     * Returns the selected event queue implementation.
+     *
+     * @return the event queue type
+     */
+    public EventQueueType getQueueType() {
+        return queueType;
     }
 
     /**
      * Removes and returns the event with the earliest time from the event list.
+     * A new event object is allocated; the simulation loop uses {@link #remove(Event)} instead.
      *
      * @return the event with the earliest time
      */
     public Event remove() {
-        Trace.out(Trace.Level.INFO, "Event " + list.peek().getType() + " is removed from event list: " + list.peek().getTime());
-        return list.remove();
+        return remove(new Event(null, 0));
+    }
+
+    /**
+     * Removes the event with the earliest time from the event list and copies it into
+     * the given event object, which avoids allocating a new event.
+     *
+     * @param target the event object that receives the type, time and payload of the removed event
+     * @return the target event
+     */
+    public Event remove(Event target) {
+        if (queue.size() == 0) {
+            throw new IllegalStateException("Event list is empty");
+        }
+        target.setType(typeTable[queue.nextType()]);
+        target.setTime(queue.nextTime());
+        target.setPayload(queue.nextPayload());
+        target.setSequence(queue.nextOrder() & ((1L << SEQUENCE_BITS) - 1));
+        queue.removeNext();
+        if (Trace.isEnabled(Trace.Level.INFO)) {
+            Trace.out(Trace.Level.INFO, "Event " + target.getType() + " is removed from event list: " + target.getTime());
+        }
+        return target;
     }
 
     /**
      * Adds a new event to the event list. Events are sorted by time, with the earliest
-     * events being processed first.
+     * events being processed first. The event object itself is not kept.
      *
      * @param e the event to add to the list
      */
     public void add(Event e) {
-        Trace.out(Trace.Level.INFO, "Event " + e.getType() + " is added to event list: " + e.getTime());
-        list.add(e);
+        add(e.getType(), e.getTime(), e.getPayload());
+    }
+
+    /**
+     * Adds a new event of the given type and time to the event list without allocating an event object.
+     *
+     * @param type the type of the event
+     * @param time the time at which the event occurs
+     */
+    public void add(IEventType type, double time) {
+        add(type, time, 0);
+    }
+
+    /**
+     * Adds a new event of the given type and time with a payload, such as the server or the patient
+     * the event belongs to, without allocating an event object.
+     *
+     * @param type    the type of the event
+     * @param time    the time at which the event occurs
+     * @param payload the payload of the event
+     */
+    public void add(IEventType type, double time, int payload) {
+        if (Trace.isEnabled(Trace.Level.INFO)) {
+            Trace.out(Trace.Level.INFO, "Event " + type + " is added to event list: " + time);
+        }
+        int ordinal = register(type);
+        long order = ((long) type.priority() << SEQUENCE_BITS) | sequence++;
+        queue.add(time, order, ordinal, payload);
     }
 
     /**
@@ -44,9 +150,47 @@ public class EventList {
      * @return the time of the next event, or {@code Double.MAX_VALUE} if the list is empty
      */
     public double getNextTime() {
-        if (list.isEmpty()) {
-            return Double.MAX_VALUE; // Avoid null-exception when queue is empty
+        return queue.nextTime(); // Double.MAX_VALUE when the queue is empty
+    }
+
+    /**
+     * Returns the number of pending events.
+     *
+     * @return the number of events in the list
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Checks if there are no pending events.
+     *
+     * @return {@code true} if the list is empty
+     */
+    public boolean isEmpty() {
+        return queue.size() == 0;
+    }
+
+    /**
+     * Records the event type under its ordinal, so that removed events get their type back.
+     *
+     * @param type the event type
+     * @return the ordinal of the event type
+     */
+    private int register(IEventType type) {
+        int ordinal = type.ordinal();
+        if (ordinal >= typeTable.length) {
+            typeTable = Arrays.copyOf(typeTable, Math.max(ordinal + 1, typeTable.length * 2));
+        }
+        IEventType known = typeTable[ordinal];
+        if (known == null) {
+            if (type.priority() < 0 || type.priority() > MAX_PRIORITY) {
+                throw new IllegalArgumentException("Priority of event type " + type + " must be between 0 and " + MAX_PRIORITY);
+            }
+            typeTable[ordinal] = type;
+        } else if (known != type) {
+            throw new IllegalArgumentException("Event types " + known + " and " + type + " share ordinal " + ordinal);
         }
-        return list.peek().getTime();
+        return ordinal;
     }
 }
@@ -0,0 +1,65 @@
+package org.group8.simulator.framework;
+
+/**
+ * The EventQueue interface is the strategy behind {@link EventList}: a priority queue of pending
+ * events stored as primitives, an event time, an order key, the ordinal of the event type and
+ * an integer payload.
+ * Events are ordered by time and then by order key, which the event list makes unique, so every
+ * implementation removes the events in exactly the same order.
+ * Implementations must not allocate objects per event once they have grown to the size of
+ * the pending event set.
+ *
+ * @see EventQueueType
+ */
+public interface EventQueue {
+
+    /**
+     * Adds an event to the queue.
+     *
+     * @param time    the time at which the event occurs
+     * @param order   the key ordering events with the same time, lower first
+     * @param type    the ordinal of the event type
+     * @param payload the payload of the event
+     */
+    void add(double time, long order, int type, int payload);
+
+    /**
+     * Returns the time of the earliest event, or {@code Double.MAX_VALUE} if the queue is empty.
+     *
+     * @return the time of the earliest event
+     */
+    double nextTime();
+
+    /**
+     * Returns the type ordinal of the earliest event. The queue must not be empty.
+     *
+     * @return the type ordinal of the earliest event
+     */
+    int nextType();
+
+    /**
+     * Returns the payload of the earliest event. The queue must not be empty.
+     *
+     * @return the payload of the earliest event
+     */
+    int nextPayload();
+
+    /**
+     * Returns the order key of the earliest event. The queue must not be empty.
+     *
+     * @return the order key of the earliest event
+     */
+    long nextOrder();
+
+    /**
+     * Removes the earliest event. The queue must not be empty.
+     */
+    void removeNext();
+
+    /**
+     * Returns the number of events in the queue.
+     *
+     * @return the number of events
+     */
+    int size();
+}
@@ -0,0 +1,29 @@
+package org.group8.simulator.framework;
+
+/**
+ * Enumeration of the available {@link EventQueue} implementations, selectable per simulation.
+ */
+public enum EventQueueType {
+
+    /**
+     * A 4-ary heap on primitive arrays: O(log n) per operation, compact and fast for small and medium event sets.
+     */
+    HEAP,
+
+    /**
+     * A calendar queue (Brown 1988): O(1) amortized per operation, for large pending event sets.
+     */
+    CALENDAR;
+
+    /**
+     * Creates a new, empty queue of this type.
+     *
+     * @return the new event queue
+     */
+    public EventQueue create() {
+        return switch (this) {
+            case HEAP -> new HeapEventQueue();
+            case CALENDAR -> new CalendarEventQueue();
+        };
+    }
+}
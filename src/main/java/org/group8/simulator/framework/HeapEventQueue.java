@@ -0,0 +1,125 @@
+package org.group8.simulator.framework;
+
+import java.util.Arrays;
+
+/**
+ * An {@link EventQueue} implemented as a 4-ary min-heap built on parallel primitive arrays:
+ * the event times in a {@code double[]}, the order keys in a {@code long[]}, and the ordinals of
+ * the event types and the payloads in {@code int[]}s. Adding and removing events costs O(log n) and does not
+ * allocate once the arrays have grown.
+ */
+public class HeapEventQueue implements EventQueue {
+
+    private static final int ARITY = 4;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private double[] times = new double[INITIAL_CAPACITY];
+    private long[] orders = new long[INITIAL_CAPACITY];
+    private int[] types = new int[INITIAL_CAPACITY];
+    private int[] payloads = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    @Override
+    public void add(double time, long order, int type, int payload) {
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            orders = Arrays.copyOf(orders, size * 2);
+            types = Arrays.copyOf(types, size * 2);
+            payloads = Arrays.copyOf(payloads, size * 2);
+        }
+        siftUp(size++, time, order, type, payload);
+    }
+
+    @Override
+    public double nextTime() {
+        return size == 0 ? Double.MAX_VALUE : times[0];
+    }
+
+    @Override
+    public int nextType() {
+        return types[0];
+    }
+
+    @Override
+    public int nextPayload() {
+        return payloads[0];
+    }
+
+    @Override
+    public long nextOrder() {
+        return orders[0];
+    }
+
+    @Override
+    public void removeNext() {
+        size--;
+        if (size > 0) {
+            siftDown(times[size], orders[size], types[size], payloads[size]);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the event at the given position comes before the given event.
+     */
+    private boolean before(int index, double time, long order) {
+        return times[index] < time || (times[index] == time && orders[index] < order);
+    }
+
+    /**
+     * Moves a new event up from the given position until its parent comes before it.
+     */
+    private void siftUp(int index, double time, long order, int type, int payload) {
+        while (index > 0) {
+            int parent = (index - 1) / ARITY;
+            if (before(parent, time, order)) {
+                break;
+            }
+            times[index] = times[parent];
+            orders[index] = orders[parent];
+            types[index] = types[parent];
+            payloads[index] = payloads[parent];
+            index = parent;
+        }
+        times[index] = time;
+        orders[index] = order;
+        types[index] = type;
+        payloads[index] = payload;
+    }
+
+    /**
+     * Places the given event at the root and moves it down until no child comes before it.
+     */
+    private void siftDown(double time, long order, int type, int payload) {
+        int index = 0;
+        while (true) {
+            int first = index * ARITY + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + ARITY, size);
+            int min = first;
+            for (int child = first + 1; child < last; child++) {
+                if (before(child, times[min], orders[min])) {
+                    min = child;
+                }
+            }
+            if (!before(min, time, order)) {
+                break;
+            }
+            times[index] = times[min];
+            orders[index] = orders[min];
+            types[index] = types[min];
+            payloads[index] = payloads[min];
+            index = min;
+        }
+        times[index] = time;
+        orders[index] = order;
+        types[index] = type;
+        payloads[index] = payload;
+    }
+}
@@ -1,8 +1,29 @@
 package org.group8.simulator.framework;
 
 /**
- * The IEventType interface is a marker interface used to define event types in the simulation.
+ * The IEventType interface is used to define event types in the simulation.
  * Classes that implement this interface represent specific types of events in the simulation framework.
+ * Event types are expected to be enum constants: the event list stores events by the ordinal of their type.
+ * The priority of the type breaks ties between simultaneous events, so that runs are reproducible.
  */
 public interface IEventType {
+
+    /**
+     * Returns the ordinal of the event type, which is unique among the event types of a simulation.
+     * Enum constants implement this method automatically.
+     *
+     * @return the ordinal of the event type
+     */
+    int ordinal();
+
+    /**
+     * Returns the priority of the event type among events scheduled for the same time:
+     * events with a lower priority value are processed first. Events with the same time and
+     * priority are processed in the order they were added to the event list.
+     *
+     * @return the priority, between 0 and {@link EventList#MAX_PRIORITY}
+     */
+    default int priority() {
+        return 0;
+    }
 }
@@ -22,6 +22,27 @@ public interface IHealthCentre {
      */
     double getSimulationTime();
 
+    /**
+     * Gets the current time of the simulation clock.
+     *
+     * @return the current simulation time
+     */
+    double getCurrentTime();
+
+    /**
+     * Selects the event queue implementation of the event list. It must be set before the simulation starts.
+     *
+     * @param type the event queue implementation
+     */
+    void setEventQueueType(EventQueueType type);
+
+    /**
+     * Gets the event queue implementation of the event list.
+     *
+     * @return the event queue implementation
+     */
+    EventQueueType getEventQueueType();
+
     /**
      * Sets the delay between simulation steps to control the simulation speed.
      *
@@ -36,6 +57,39 @@ public interface IHealthCentre {
      */
     long getDelay();
 
+    /**
+     * Paces the simulation against the wall clock. The events are processed in bursts, each event
+     * when its wall-clock deadline has passed, and the delay is not used. A ratio of zero turns
+     * pacing off, so the simulation uses the delay, or runs unthrottled without a delay.
+     *
+     * @param ratio the simulation time units (minutes) per wall-clock second, or 0 to turn pacing off
+     */
+    void setSpeedRatio(double ratio);
+
+    /**
+     * Gets the speed ratio of the simulation.
+     *
+     * @return the simulation time units per wall-clock second, 0 if the simulation is not paced
+     */
+    double getSpeedRatio();
+
+    /**
+     * Sets the interval of simulation time between the precision checkpoints. At every checkpoint the model
+     * checks whether its estimates are precise enough, and the run stops early if they are. The simulation
+     * time remains the longest the run can take.
+     *
+     * @param interval the simulation time between checkpoints, or 0 for no checkpoints
+     * @throws IllegalArgumentException if the interval is negative
+     */
+    void setCheckpointInterval(double interval);
+
+    /**
+     * Gets the interval between the precision checkpoints.
+     *
+     * @return the simulation time between checkpoints, 0 if there are no checkpoints
+     */
+    double getCheckpointInterval();
+
     /**
      * Retrieves the current simulation statistics, including patient flow and timing data.
      *
@@ -0,0 +1,126 @@
+package org.group8.simulator.framework;
+
+/**
+ * A first-in first-out queue of {@code int} values backed by a growable circular array.
+ * <p>
+ * The values are stored contiguously between a head and a tail index that wrap around the
+ * array, whose length is always a power of two so that wrapping is a bit mask. Adding and
+ * removing values neither allocates objects nor boxes the values, unlike a linked list or
+ * an {@code ArrayDeque<Integer>}, and the array doubles when it is full, so long queues under
+ * heavy congestion stay compact in memory. The service points use it to queue patient indices.
+ */
+public class IntRingQueue {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int mask;
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * Constructs an empty queue with the default initial capacity.
+     */
+    public IntRingQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty queue with room for the given number of values before it grows.
+     *
+     * @param capacity the initial capacity, rounded up to a power of two
+     * @throws IllegalArgumentException if the capacity is negative or too large
+     */
+    public IntRingQueue(int capacity) {
+        if (capacity < 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int length = Math.max(2, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1);
+        this.elements = new int[length];
+        this.mask = length - 1;
+    }
+
+    /**
+     * Adds a value at the tail of the queue.
+     *
+     * @param value the value to add
+     */
+    public void add(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & mask] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the value at the head of the queue.
+     *
+     * @return the head of the queue
+     * @throws IllegalStateException if the queue is empty
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        int value = elements[head];
+        head = (head + 1) & mask;
+        size--;
+        return value;
+    }
+
+    /**
+     * Returns the value at the head of the queue without removing it.
+     *
+     * @return the head of the queue
+     * @throws IllegalStateException if the queue is empty
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        return elements[head];
+    }
+
+    /**
+     * Returns the number of values in the queue.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue has no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all values from the queue, keeping its capacity.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Doubles the array and unwraps the values to its start.
+     */
+    private void grow() {
+        if (elements.length == 1 << 30) {
+            throw new IllegalStateException("Queue is full");
+        }
+        int[] larger = new int[elements.length * 2];
+        int first = elements.length - head;
+        System.arraycopy(elements, head, larger, 0, first);
+        System.arraycopy(elements, 0, larger, first, head);
+        elements = larger;
+        mask = larger.length - 1;
+        head = 0;
+    }
+}
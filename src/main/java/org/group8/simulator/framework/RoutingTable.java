@@ -0,0 +1,119 @@
+package org.group8.simulator.framework;
+
+/**
+ * The RoutingTable class picks one of several outcomes with given probabilities in constant time,
+ * using Walker's alias method (A. J. Walker, "An efficient method for generating discrete random
+ * variables with general distributions", ACM TOMS 3(3), 1977) with Vose's linear-time construction.
+ * <p>
+ * Every outcome owns a column of equal width. A column holds its own outcome up to a cut-off and
+ * an alias outcome above it, so sampling takes one uniform number, one column lookup and one
+ * comparison however many outcomes the table has.
+ */
+public final class RoutingTable {
+
+    private final double[] probabilities;
+    private final double[] cutoffs;
+    private final int[] aliases;
+
+    /**
+     * Builds the table for the given weights. The weights are normalized, so they need not sum to one.
+     *
+     * @param weights the non-negative weight of every outcome
+     * @throws IllegalArgumentException if there are no weights, a weight is negative or not finite,
+     *                                  or all weights are zero
+     */
+    public RoutingTable(double[] weights) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("A routing table needs at least one outcome");
+        }
+        double total = 0;
+        for (double weight : weights) {
+            if (weight < 0 || !Double.isFinite(weight)) {
+                throw new IllegalArgumentException("Invalid routing weight: " + weight);
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Routing weights must not all be zero");
+        }
+
+        probabilities = new double[n];
+        cutoffs = new double[n];
+        aliases = new int[n];
+
+        // scale the probabilities so that the average column is full, and split the columns into
+        // those below and those above the average
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            probabilities[i] = weights[i] / total;
+            scaled[i] = probabilities[i] * n;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        // fill every small column with the excess of a large one
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            cutoffs[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // the remaining columns are full, up to rounding errors
+        while (largeCount > 0) {
+            int column = large[--largeCount];
+            cutoffs[column] = 1.0;
+            aliases[column] = column;
+        }
+        while (smallCount > 0) {
+            int column = small[--smallCount];
+            cutoffs[column] = 1.0;
+            aliases[column] = column;
+        }
+    }
+
+    /**
+     * Picks an outcome.
+     *
+     * @param u a uniform random number in [0, 1)
+     * @return the index of the outcome
+     */
+    public int sample(double u) {
+        double scaled = u * cutoffs.length;
+        int column = Math.min((int) scaled, cutoffs.length - 1);
+        return scaled - column < cutoffs[column] ? column : aliases[column];
+    }
+
+    /**
+     * Returns the number of outcomes.
+     *
+     * @return the number of outcomes
+     */
+    public int size() {
+        return probabilities.length;
+    }
+
+    /**
+     * Returns the normalized probability of an outcome.
+     *
+     * @param outcome the index of the outcome
+     * @return the probability of the outcome
+     */
+    public double getProbability(int outcome) {
+        return probabilities[outcome];
+    }
+}
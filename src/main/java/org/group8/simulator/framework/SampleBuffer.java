@@ -0,0 +1,44 @@
+package org.group8.simulator.framework;
+
+import org.group8.distributions.SampleGenerator;
+
+/**
+ * The SampleBuffer class hands out the samples of a generator one at a time from a buffer that is refilled
+ * in bulk with {@link SampleGenerator#fill(double[], int, int)}. The samples are the same, in the same order,
+ * as drawing them one at a time, but the generator is called once per {@link #CAPACITY} samples, in a tight
+ * loop over its distribution, instead of once per sample through the generator interfaces.
+ * <p>
+ * The buffer is filled lazily, on the first sample after it runs out, so no samples are drawn before they
+ * are needed.
+ */
+public class SampleBuffer {
+
+    /** The number of samples drawn at a time */
+    public static final int CAPACITY = 64;
+
+    private final SampleGenerator generator;
+    private final double[] samples = new double[CAPACITY];
+    private int next = CAPACITY;
+
+    /**
+     * Constructs an empty buffer of a generator.
+     *
+     * @param generator the generator of the samples
+     */
+    public SampleBuffer(SampleGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Returns the next sample, refilling the buffer when it is empty.
+     *
+     * @return the next sample of the generator
+     */
+    public double next() {
+        if (next == CAPACITY) {
+            generator.fill(samples, 0, CAPACITY);
+            next = 0;
+        }
+        return samples[next++];
+    }
+}
@@ -1,8 +1,15 @@
 package org.group8.simulator.framework;
 
+import java.util.function.Supplier;
+
 /**
  * The Trace class is used to log and output messages in the simulation at different levels.
  * It allows the user to set a trace level, so that only messages of a certain priority or higher are logged.
+ * <p>
+ * Messages below the trace level are discarded before any text is built: callers pass constant
+ * strings, a {@link Supplier} that is only called for enabled levels, or check {@link #isEnabled(Level)}
+ * themselves. Enabled messages are handed to an asynchronous sink that writes them through logback
+ * in a background thread, so the simulation thread never waits for the console.
  */
 public class Trace {
 
@@ -11,7 +18,9 @@ public class Trace {
      */
     public enum Level {INFO, WAR, ERR}
 
-    private static Level traceLevel;
+    private static volatile Level traceLevel;
+
+    private static final AsyncTraceSink sink = new AsyncTraceSink();
 
     /**
      * Sets the current trace level. Only messages with a level equal to or higher than
@@ -23,6 +32,18 @@ public class Trace {
         traceLevel = lvl;
     }
 
+    /**
+     * Checks if messages of the specified level are output. Callers on the hot path use it
+     * to avoid building the message text when it would be discarded.
+     *
+     * @param lvl the level of the message (INFO, WAR, ERR)
+     * @return {@code true} if messages of this level are output
+     */
+    public static boolean isEnabled(Level lvl) {
+        Level level = traceLevel;
+        return level != null && lvl.ordinal() >= level.ordinal();
+    }
+
     /**
      * Outputs a message if the specified trace level is equal to or higher than the current trace level.
      *
@@ -30,8 +51,37 @@ public class Trace {
      * @param txt the text of the message to output
      */
     public static void out(Level lvl, String txt) {
-        if (lvl.ordinal() >= traceLevel.ordinal()) {
-            System.out.println(txt);
+        if (isEnabled(lvl)) {
+            sink.offer(lvl, txt);
         }
     }
+
+    /**
+     * Outputs a message if the specified trace level is equal to or higher than the current trace level.
+     * The message text is only built when the level is enabled.
+     *
+     * @param lvl the level of the message (INFO, WAR, ERR)
+     * @param txt the supplier of the text of the message to output
+     */
+    public static void out(Level lvl, Supplier<String> txt) {
+        if (isEnabled(lvl)) {
+            sink.offer(lvl, txt.get());
+        }
+    }
+
+    /**
+     * Waits until all messages output so far have been written.
+     */
+    public static void flush() {
+        sink.flush();
+    }
+
+    /**
+     * Returns the number of messages that were discarded because the sink could not keep up.
+     *
+     * @return the number of dropped messages
+     */
+    public static long getDroppedCount() {
+        return sink.getDroppedCount();
+    }
 }
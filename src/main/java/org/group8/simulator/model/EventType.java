@@ -5,36 +5,56 @@ import org.group8.simulator.framework.IEventType;
 /**
  * Enumeration representing the various event types in the simulation.
  * These events correspond to the different stages in the healthcare process.
+ * <p>
+ * Simultaneous events are processed by priority: departures from the later stages first,
+ * so that a patient frees a service point before the next patient is routed to it,
+ * and new arrivals last. The end of the warm-up period comes after all other events of its time.
  */
 public enum EventType implements IEventType {
 
     /**
      * Represents the event when a patient arrives for check-in.
      */
-    ARR_CHECKIN,
+    ARR_CHECKIN(5),
 
     /**
      * Represents the event when a patient departs from check-in.
      */
-    DEP_CHECKIN,
+    DEP_CHECKIN(4),
 
     /**
      * Represents the event when a patient departs from the doctor's consultation.
      */
-    DEP_DOCTOR,
+    DEP_DOCTOR(3),
 
     /**
      * Represents the event when a patient departs from the lab.
      */
-    DEP_LAB,
+    DEP_LAB(2),
 
     /**
      * Represents the event when a patient departs from the x-ray.
      */
-    DEP_XRAY,
+    DEP_XRAY(1),
 
     /**
      * Represents the event when a patient departs from the treatment area.
      */
-    DEP_TREATMENT;
+    DEP_TREATMENT(0),
+
+    /**
+     * Represents the end of the warm-up period, at which the statistics are reset.
+     */
+    WARM_UP_END(6);
+
+    private final int priority;
+
+    EventType(int priority) {
+        this.priority = priority;
+    }
+
+    @Override
+    public int priority() {
+        return priority;
+    }
 }
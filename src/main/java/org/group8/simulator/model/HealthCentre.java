@@ -5,12 +5,19 @@ import org.group8.controller.IControllerForP;
 import org.group8.controller.IDataControlller;
 import org.group8.distributions.Negexp;
 import org.group8.distributions.Poisson;
+import org.group8.distributions.SampleGenerator;
+import org.group8.distributions.ContinuousGenerator;
+import org.group8.distributions.RandomGenerator;
+import org.group8.distributions.UniformSource;
 import org.group8.simulator.framework.AbstractHealthCentre;
 import org.group8.simulator.framework.ArrivalProcess;
-import org.group8.simulator.framework.Clock;
 import org.group8.simulator.framework.Event;
+import org.group8.simulator.framework.Trace;
+import org.group8.simulator.statistics.BatchMeans;
+import org.group8.simulator.statistics.ConfidenceInterval;
+import org.group8.simulator.statistics.MserDetector;
 
-import java.util.Random;
+import java.util.Arrays;
 
 /**
  * The HealthCentre class models a healthcare center simulation, handling patient
@@ -19,13 +26,68 @@ import java.util.Random;
  *
  * It extends {@link AbstractHealthCentre} and implements the logic for initializing
  * and processing events in the simulation, as well as gathering and saving statistics.
+ * <p>
+ * As every run starts from an empty health centre, the statistics can be truncated after a warm-up period:
+ * a fixed warm-up time, after which a {@link EventType#WARM_UP_END} event resets them, and optionally
+ * an {@link MserDetector} fed with the times in system of the departing patients, which resets them
+ * as soon as it finds the output steady. The reset restarts the accumulators of the patients and of
+ * all service points at the current time, and the event loop carries on.
+ * <p>
+ * After the warm-up, the departure stream can be split into {@link BatchMeans batches} of consecutive
+ * departures, which give confidence intervals for the mean time in system and the utilization of every
+ * service point from this single run. The run can then stop early, once the relative half-width of the
+ * interval of a chosen {@link OutputStatistic} reaches a target: at every completed batch, or at the
+ * checkpoints of the {@linkplain #setCheckpointInterval(double) checkpoint interval} if one is set.
  */
 public class HealthCentre extends AbstractHealthCentre {
 
     private ArrivalProcess checkInProcess;
     private ServicePoint checkIn, doctor, lab, xRay, treatment;
-    private Random decisionMaker = new Random();
-    private IDataControlller dataControlller = new DataController();
+    private ServicePoint[] servicePoints;
+    private final ContinuousGenerator decisionMaker;
+    private final IDataControlller dataControlller;
+
+    // root seed and replication index of the substreams of the distributions, seed null for default seeds
+    private final Long seed;
+    private final int replication;
+    private int nextStream = 1;
+
+    // patient counters of this run
+    private final PatientStatistics patientStatistics = new PatientStatistics();
+
+    // columns of the patients present in the health centre
+    private final PatientStore patients = new PatientStore(patientStatistics);
+
+    // configuration snapshot, the only configuration the model reads during the run
+    private final SimulationConfig config;
+
+    // results of the last finished run and whether they are persisted automatically
+    private SimulationResults results;
+    private boolean persistResults = true;
+
+    // warm-up: fixed warm-up time, steady-state detection, and when the statistics were last reset
+    private double warmUpTime = 0;
+    private boolean warmUpDetection = false;
+    private MserDetector warmUpDetector;
+    private double statisticsStartTime = 0;
+
+    /** The confidence level of the batch means intervals */
+    public static final double BATCH_CONFIDENCE = 0.95;
+
+    // departures in the first batches, before the batches grow
+    private static final int INITIAL_BATCH_SIZE = 10;
+
+    // batch means: number of batches, target relative half-width, and the batch being filled
+    private int batchCount = 0;
+    private double targetRelativeHalfWidth = 0;
+    private OutputStatistic precisionStatistic = OutputStatistic.TIME_IN_SYSTEM;
+    private BatchMeans batchMeans;
+    private int batchDepartures;
+    private double batchTimeInSystem;
+    private double batchStartTime;
+    private double[] batchBusyTimes;
+    private final double[] batchNumerators = new double[6];
+    private final double[] batchDenominators = new double[6];
 
     // statics variables
     private int visitedLab = 0;
@@ -40,7 +102,68 @@ public class HealthCentre extends AbstractHealthCentre {
      * @param controller the controller responsible for managing simulation and UI
      */
     public HealthCentre(IControllerForP controller) {
+        this(controller, new DataController());
+    }
+
+    private HealthCentre(IControllerForP controller, IDataControlller dataController) {
+        this(controller, dataController, SimulationConfig.load(dataController), null, 0);
+    }
+
+    /**
+     * Constructs a new HealthCentre whose random streams are all derived from the given seed,
+     * so that two runs with the same seed and configuration produce the same results.
+     *
+     * @param controller     the controller responsible for managing simulation and UI
+     * @param dataController the data controller providing distributions and probabilities
+     * @param seed           the root seed for the distributions and the routing decisions
+     */
+    public HealthCentre(IControllerForP controller, IDataControlller dataController, long seed) {
+        this(controller, dataController, SimulationConfig.load(dataController), seed, 0);
+    }
+
+    /**
+     * Constructs a new HealthCentre from a configuration snapshot, with random streams derived from the given seed.
+     * The data controller is only used to persist the results.
+     *
+     * @param controller     the controller responsible for managing simulation and UI
+     * @param dataController the data controller persisting the results
+     * @param config         the configuration of the run
+     * @param seed           the root seed for the distributions and the routing decisions
+     */
+    public HealthCentre(IControllerForP controller, IDataControlller dataController, SimulationConfig config, long seed) {
+        this(controller, dataController, config, seed, 0);
+    }
+
+    /**
+     * Constructs a new HealthCentre for one replication of an experiment. Every random stream of the run,
+     * the routing decisions and the distribution of every event, is its own substream of the seed, so the
+     * streams of all replications of the experiment are created independently and never overlap.
+     * See {@link UniformSource#substream(long, int, int)} for the length of the substreams.
+     *
+     * @param controller     the controller responsible for managing simulation and UI
+     * @param dataController the data controller persisting the results
+     * @param config         the configuration of the run
+     * @param seed           the root seed of the experiment
+     * @param replication    the index of the replication, from 0
+     * @throws IllegalArgumentException if the uniform source of the configuration has no substreams for the replication
+     */
+    public HealthCentre(IControllerForP controller, IDataControlller dataController, SimulationConfig config,
+                        long seed, int replication) {
+        this(controller, dataController, config, Long.valueOf(seed), replication);
+    }
+
+    private HealthCentre(IControllerForP controller, IDataControlller dataController, SimulationConfig config,
+                         Long seed, int replication) {
         super(controller);
+        this.dataControlller = dataController;
+        this.config = config;
+        this.seed = seed;
+        this.replication = replication;
+        if (seed == null) {
+            decisionMaker = new RandomGenerator();
+        } else {
+            decisionMaker = config.getUniformSource().substream(seed, replication, 0);
+        }
 
         // Initialize the check-in process and define service points
         checkInProcess = createArrivalProcess("arrival", EventType.ARR_CHECKIN);
@@ -51,42 +174,71 @@ public class HealthCentre extends AbstractHealthCentre {
         lab = createServicePoint("lab", EventType.DEP_LAB);
         xRay = createServicePoint("xray", EventType.DEP_XRAY);
         treatment = createServicePoint("treatment", EventType.DEP_TREATMENT);
+        servicePoints = new ServicePoint[]{checkIn, doctor, lab, xRay, treatment};
     }
 
     /**
      * Creates an ArrivalProcess for the specified event and associates it with
-     * a distribution.
+     * the distribution of the configuration.
      *
      * @param name      the name of the process (e.g., arrival)
      * @param eventType the type of event to generate (e.g., ARR_CHECKIN)
      * @return the created ArrivalProcess
      */
     public ArrivalProcess createArrivalProcess(String name, EventType eventType) {
-        Distribution distribution = dataControlller.getDistributionObject(name);
-        return switch (distribution.getDistribution()) {
-            case "negexp" -> new ArrivalProcess(new Negexp(distribution.getAverageTime()), eventList, eventType);
-            case "poisson" -> new ArrivalProcess(new Poisson(distribution.getAverageTime()), eventList, eventType);
-            default -> null;
-        };
+        SampleGenerator generator = createGenerator(name);
+        return generator == null ? null : new ArrivalProcess(generator, eventList, eventType, clock);
     }
 
     /**
      * Creates a ServicePoint for the specified event and associates it with
-     * a distribution.
+     * the distribution and the number of servers of the configuration.
      *
      * @param name      the name of the service point (e.g., check-in)
      * @param eventType the type of event to generate (e.g., DEP_CHECKIN)
      * @return the created ServicePoint
      */
     public ServicePoint createServicePoint(String name, EventType eventType) {
-        Distribution distribution = dataControlller.getDistributionObject(name);
-        return switch (distribution.getDistribution()) {
-            case "negexp" -> new ServicePoint(new Negexp(distribution.getAverageTime()), eventList, eventType);
-            case "poisson" -> new ServicePoint(new Poisson(distribution.getAverageTime()), eventList, eventType);
+        SampleGenerator generator = createGenerator(name);
+        return generator == null ? null : new ServicePoint(generator, eventList, eventType, clock, patients, config.getServerCount(name));
+    }
+
+    /**
+     * Creates the sample generator of an event as described by the configuration. When the health
+     * centre is seeded, every generator gets the next substream of the replication.
+     *
+     * @param event the event name
+     * @return the generator, or {@code null} if the distribution type is not supported
+     */
+    private SampleGenerator createGenerator(String event) {
+        String type = config.getDistributionType(event);
+        double mean = config.getAverageTime(event);
+        if (seed == null) {
+            return switch (type) {
+                case "negexp" -> createNegexp(new Negexp(mean));
+                case "poisson" -> new Poisson(mean);
+                default -> null;
+            };
+        }
+        ContinuousGenerator source = config.getUniformSource().substream(seed, replication, nextStream++);
+        return switch (type) {
+            case "negexp" -> createNegexp(new Negexp(mean, source));
+            case "poisson" -> new Poisson(mean, source);
             default -> null;
         };
     }
 
+    /**
+     * Applies the sampling method of the configuration, {@code config.getVariateMethod()}, to an exponential generator.
+     *
+     * @param negexp the exponential generator
+     * @return the same generator
+     */
+    private Negexp createNegexp(Negexp negexp) {
+        negexp.setMethod(config.getVariateMethod());
+        return negexp;
+    }
+
     /**
      * Initializes the simulation by generating the first event in the check-in
      * process.
@@ -95,6 +247,15 @@ public class HealthCentre extends AbstractHealthCentre {
     protected void init() {
         // Initialize the first event (arrival at Check-In)
         checkInProcess.generateNext();
+
+        startBatches();
+
+        // The detector starts after the fixed warm-up, if there is one
+        if (warmUpTime > 0) {
+            eventList.add(EventType.WARM_UP_END, warmUpTime);
+        } else if (warmUpDetection) {
+            warmUpDetector = new MserDetector();
+        }
     }
 
     /**
@@ -105,52 +266,52 @@ public class HealthCentre extends AbstractHealthCentre {
      */
     @Override
     protected void processEvent(Event e) {
-        Patient p;
-        double nextStep;
+        int p;
         switch ((EventType) e.getType()) {
             case ARR_CHECKIN:
-                checkIn.addToQueue(new Patient());
+                checkIn.addToQueue(patients.admit(clock.getTime()));
                 controller.addPatientToCheckInCanvas();
                 checkInProcess.generateNext();
                 break;
 
             case DEP_CHECKIN:
                 controller.removePatientFromCheckInCanvas();
-                p = checkIn.removeFromQueue();
+                p = checkIn.endService(e);
                 doctor.addToQueue(p);  // Move to doctor
                 controller.addPatientToDoctorCanvas();
                 break;
 
             case DEP_DOCTOR:
                 controller.removePatientFromDoctorCanvas();
-                p = doctor.removeFromQueue();
-                // decision-making process (random based on enum probabilities)
-                nextStep = decisionMaker.nextDouble();
-
-                // Check if the patient leaves after the doctor consultation
-                if (nextStep < dataControlller.getProbability("NO_TREATMENT")) {
-                    // Patient leaves the healthcare centre without further treatment
-                    sentToSelfCare++;
-                    p.setDepartureTime(Clock.getInstance().getTime());
-                    p.report();
-                } else if (nextStep < dataControlller.getProbability("NO_TREATMENT") + dataControlller.getProbability("LAB")) {
-                    lab.addToQueue(p);  // Lab
-                    visitedLab++;
-                    controller.addPatientToLabCanvas();
-                } else if (nextStep < dataControlller.getProbability("NO_TREATMENT") + dataControlller.getProbability("LAB") + dataControlller.getProbability("XRAY")) {
-                    xRay.addToQueue(p);  // X-ray
-                    visitedXRay++;
-                    controller.addPatientToXRayCanvas();
-                } else {
-                    treatment.addToQueue(p);  // Treatment
-                    visitedTreatment++;
-                    controller.addPatientToTreatmentCanvas();
+                p = doctor.endService(e);
+                // decision-making process (random based on the routing table of the configuration)
+                switch (config.route(decisionMaker.sample())) {
+                    case SimulationConfig.NO_TREATMENT -> {
+                        // Patient leaves the healthcare centre without further treatment
+                        sentToSelfCare++;
+                        complete(p);
+                    }
+                    case SimulationConfig.LAB -> {
+                        lab.addToQueue(p);  // Lab
+                        visitedLab++;
+                        controller.addPatientToLabCanvas();
+                    }
+                    case SimulationConfig.XRAY -> {
+                        xRay.addToQueue(p);  // X-ray
+                        visitedXRay++;
+                        controller.addPatientToXRayCanvas();
+                    }
+                    default -> {
+                        treatment.addToQueue(p);  // Treatment
+                        visitedTreatment++;
+                        controller.addPatientToTreatmentCanvas();
+                    }
                 }
                 break;
 
             case DEP_LAB:
                 controller.removePatientFromLabCanvas();
-                p = lab.removeFromQueue();
+                p = lab.endService(e);
                 treatment.addToQueue(p);  // After lab, go to treatment
                 visitedTreatment++;
                 controller.addPatientToTreatmentCanvas();
@@ -158,7 +319,7 @@ public class HealthCentre extends AbstractHealthCentre {
 
             case DEP_XRAY:
                 controller.removePatientFromXRayCanvas();
-                p = xRay.removeFromQueue();
+                p = xRay.endService(e);
                 treatment.addToQueue(p);  // After x-ray, go to treatment
                 visitedTreatment++;
                 controller.addPatientToTreatmentCanvas();
@@ -166,40 +327,286 @@ public class HealthCentre extends AbstractHealthCentre {
 
             case DEP_TREATMENT:
                 controller.removePatientFromTreatmentCanvas();
-                p = treatment.removeFromQueue();
-                p.setDepartureTime(Clock.getInstance().getTime());
-                p.report();
+                p = treatment.endService(e);
+                complete(p);
+                break;
+
+            case WARM_UP_END:
+                resetStatistics();
+                if (warmUpDetection) {
+                    warmUpDetector = new MserDetector();
+                }
                 break;
         }
     }
 
     /**
-     * Attempts to start service at any service point that is not currently busy
-     * and has a queue.
+     * Completes the visit of a patient and, while the warm-up is being detected, feeds the time in system
+     * to the detector, resetting the statistics once the output is steady.
+     *
+     * @param p the slot of the departing patient
+     */
+    private void complete(int p) {
+        double now = clock.getTime();
+        double timeInSystem = now - patients.getArrivalTime(p);
+        patients.complete(p, now);
+        if (batchMeans != null) {
+            addToBatch(timeInSystem);
+        }
+        if (warmUpDetector != null) {
+            // the detector only rescans its batches when one is completed
+            if (warmUpDetector.add(timeInSystem) && warmUpDetector.isSteady()) {
+                warmUpDetector = null;
+                resetStatistics();
+            }
+        }
+    }
+
+    /**
+     * Resets the statistics of the patients and of all service points at the current time,
+     * without affecting the patients in the health centre or the pending events.
+     */
+    private void resetStatistics() {
+        statisticsStartTime = clock.getTime();
+        Trace.out(Trace.Level.INFO, () -> "Warm-up ended, statistics reset at: " + statisticsStartTime);
+        patientStatistics.resetAccumulators(patients.size());
+        for (ServicePoint sp : servicePoints) {
+            sp.resetStatistics();
+        }
+        visitedLab = 0;
+        visitedXRay = 0;
+        visitedTreatment = 0;
+        sentToSelfCare = 0;
+        startBatches();
+    }
+
+    /**
+     * Starts the batches from scratch at the current time, if batch means are enabled.
+     */
+    private void startBatches() {
+        if (batchCount < 2) {
+            return;
+        }
+        batchMeans = new BatchMeans(1 + servicePoints.length, batchCount, INITIAL_BATCH_SIZE);
+        batchBusyTimes = new double[servicePoints.length];
+        startBatch();
+    }
+
+    /**
+     * Starts a new batch at the current time.
+     */
+    private void startBatch() {
+        batchDepartures = 0;
+        batchTimeInSystem = 0;
+        batchStartTime = clock.getTime();
+        for (int i = 0; i < servicePoints.length; i++) {
+            batchBusyTimes[i] = servicePoints[i].getBusyServerTime();
+        }
+    }
+
+    /**
+     * Adds a departure to the current batch. A full batch is closed: the time in system of its departures
+     * and the busy server time of every service point during the batch go to the batch means, and the run
+     * stops if the time in system interval is precise enough.
+     *
+     * @param timeInSystem the time in system of the departing patient
+     */
+    private void addToBatch(double timeInSystem) {
+        batchTimeInSystem += timeInSystem;
+        if (++batchDepartures < batchMeans.getBatchSize()) {
+            return;
+        }
+        double duration = clock.getTime() - batchStartTime;
+        batchNumerators[0] = batchTimeInSystem;
+        batchDenominators[0] = batchDepartures;
+        for (int i = 0; i < servicePoints.length; i++) {
+            batchNumerators[i + 1] = servicePoints[i].getBusyServerTime() - batchBusyTimes[i];
+            batchDenominators[i + 1] = duration * servicePoints[i].getServerCount();
+        }
+        batchMeans.addBatch(batchNumerators, batchDenominators);
+        startBatch();
+
+        // without checkpoints, the precision is checked at every batch
+        if (getCheckpointInterval() == 0 && isPrecisionReached()) {
+            Trace.out(Trace.Level.INFO, () -> "Target precision reached at: " + clock.getTime());
+            stopSimulation();
+        }
+    }
+
+    /**
+     * Checks whether the interval of the precision statistic has reached the target relative half-width,
+     * with at least the requested number of batches.
+     *
+     * @return {@code true} if the run can end
+     */
+    @Override
+    protected boolean isPrecisionReached() {
+        return targetRelativeHalfWidth > 0 && batchMeans != null && batchMeans.getBatchCount() >= batchCount
+                && getInterval(precisionStatistic).getRelativeHalfWidth() <= targetRelativeHalfWidth;
+    }
+
+    /**
+     * Enables the batch means on the departures after the warm-up, with the given number of batches.
+     * This must be set before the simulation starts.
+     *
+     * @param batchCount the number of batches k, kept between k and 2k as the run grows; 0 to disable
+     * @throws IllegalArgumentException if the number of batches is 1 or negative
+     */
+    public void setBatchCount(int batchCount) {
+        if (batchCount < 0 || batchCount == 1) {
+            throw new IllegalArgumentException("Invalid number of batches: " + batchCount);
+        }
+        this.batchCount = batchCount;
+    }
+
+    /**
+     * Sets the output statistic whose interval decides when the run is precise enough.
+     *
+     * @param precisionStatistic the statistic, the time in system by default
+     */
+    public void setPrecisionStatistic(OutputStatistic precisionStatistic) {
+        this.precisionStatistic = precisionStatistic;
+    }
+
+    /**
+     * Sets the relative half-width of the precision statistic interval at which the run stops early.
+     * It is only checked when batch means are enabled and at least the requested number of batches is complete.
+     *
+     * @param targetRelativeHalfWidth the target, e.g. 0.05 for 5% of the mean; 0 to always run to the end
+     * @throws IllegalArgumentException if the target is negative
+     */
+    public void setTargetRelativeHalfWidth(double targetRelativeHalfWidth) {
+        if (!(targetRelativeHalfWidth >= 0)) {
+            throw new IllegalArgumentException("Invalid target relative half-width: " + targetRelativeHalfWidth);
+        }
+        this.targetRelativeHalfWidth = targetRelativeHalfWidth;
+    }
+
+    /**
+     * Returns the batch means confidence interval of the mean time in system.
+     *
+     * @return the interval, or {@code null} if batch means are disabled
+     */
+    public ConfidenceInterval getTimeInSystemInterval() {
+        return getInterval(OutputStatistic.TIME_IN_SYSTEM);
+    }
+
+    /**
+     * Returns the batch means confidence interval of an output statistic.
+     *
+     * @param statistic the output statistic
+     * @return the interval, or {@code null} if batch means are disabled
+     */
+    public ConfidenceInterval getInterval(OutputStatistic statistic) {
+        return batchMeans == null ? null : batchMeans.getConfidenceInterval(statistic.getSeries(), BATCH_CONFIDENCE);
+    }
+
+    /**
+     * Returns the batch means confidence interval of the utilization of a service point.
+     *
+     * @param event the event name of the service point, e.g. "doctor"
+     * @return the interval, or {@code null} if batch means are disabled
+     * @throws IllegalArgumentException if the event has no service point
+     */
+    public ConfidenceInterval getUtilizationInterval(String event) {
+        int index = Arrays.asList(SimulationConfig.EVENTS).indexOf(event);
+        if (index < 1) {
+            throw new IllegalArgumentException("No service point for event " + event);
+        }
+        return batchMeans == null ? null : batchMeans.getConfidenceInterval(index, BATCH_CONFIDENCE);
+    }
+
+    /**
+     * Sets a fixed warm-up time, at the end of which the statistics are reset.
+     * This must be set before the simulation starts.
+     *
+     * @param warmUpTime the warm-up time, 0 for none
+     * @throws IllegalArgumentException if the warm-up time is negative
+     */
+    public void setWarmUpTime(double warmUpTime) {
+        if (!(warmUpTime >= 0)) {
+            throw new IllegalArgumentException("Invalid warm-up time: " + warmUpTime);
+        }
+        this.warmUpTime = warmUpTime;
+    }
+
+    /**
+     * Returns the fixed warm-up time.
+     *
+     * @return the warm-up time, 0 for none
+     */
+    public double getWarmUpTime() {
+        return warmUpTime;
+    }
+
+    /**
+     * Sets whether the end of the warm-up is detected with the MSER-5 rule on the times in system,
+     * after the fixed warm-up time if there is one. This must be set before the simulation starts.
+     *
+     * @param warmUpDetection {@code true} to detect the end of the warm-up
+     */
+    public void setWarmUpDetection(boolean warmUpDetection) {
+        this.warmUpDetection = warmUpDetection;
+    }
+
+    /**
+     * Returns the time the statistics are collected from: zero, or the end of the warm-up.
+     *
+     * @return the start of the statistics period
+     */
+    public double getStatisticsStartTime() {
+        return statisticsStartTime;
+    }
+
+    /**
+     * Starts services at every service point that has free servers and waiting patients.
      */
     @Override
     protected void tryEventC() {
-        for (ServicePoint sp : new ServicePoint[]{checkIn, doctor, lab, xRay, treatment}) {
-            if (!sp.isBusy() && sp.hasQueue()) {
+        for (ServicePoint sp : servicePoints) {
+            while (!sp.isBusy() && sp.hasQueue()) {
                 sp.startService();
             }
         }
     }
 
     /**
-     * Gathers and prints statistics about the simulation run, including total
+     * Gathers statistics about the simulation run and traces a summary, including total
      * patients and average time spent in the healthcare center.
      */
     @Override
     protected void statistics() {
-        System.out.println();
-        System.out.println("--- Simulation statistics ---");
-        System.out.println("Simulation ended at time " + Clock.getInstance().getTime());
-        System.out.println("Total patients arrived at healthcare centre: " + Patient.getTotalPatients());
-        System.out.println("Total patients completed the visit: " + Patient.getCompletedPatients());
-        System.out.println("Average time spent by all patients completed the visit: " + Patient.getTotalTime() / Patient.getCompletedPatients());
+        // through the trace, so headless runs, which write their results to stdout, leave it out
+        Trace.out(Trace.Level.INFO, "\n--- Simulation statistics ---");
+        Trace.out(Trace.Level.INFO, "Simulation ended at time " + clock.getTime());
+        Trace.out(Trace.Level.INFO, "Total patients arrived at healthcare centre: " + patientStatistics.getTotalPatients());
+        Trace.out(Trace.Level.INFO, "Total patients completed the visit: " + patientStatistics.getCompletedPatients());
+        Trace.out(Trace.Level.INFO, "Average time spent by all patients completed the visit: " + patientStatistics.getAverageTime());
+
+        results = gatherSimulationData();
+        if (persistResults) {
+            // Persist the simulation results using the data controller
+            dataControlller.persistSimulationResults(results);
+        }
+    }
 
-        gatherAndSaveSimulationData();
+    /**
+     * Sets whether the results are persisted through the data controller when the run ends.
+     * Headless runs switch this off and decide themselves what to do with the results.
+     *
+     * @param persistResults {@code true} to persist the results at the end of the run
+     */
+    public void setPersistResults(boolean persistResults) {
+        this.persistResults = persistResults;
+    }
+
+    /**
+     * Returns the results of the finished run.
+     *
+     * @return the simulation results, or {@code null} if the run has not ended yet
+     */
+    public SimulationResults getResults() {
+        return results;
     }
 
     /**
@@ -211,9 +618,12 @@ public class HealthCentre extends AbstractHealthCentre {
         StringBuilder statisticsBuilder = new StringBuilder();
 
         statisticsBuilder.append("----- Simulation Statistics -----\n");
-        statisticsBuilder.append(String.format("Simulation ended at time: %.2f\n", Clock.getInstance().getTime()));
-        statisticsBuilder.append(String.format("Total patients arrived at the healthcare center: %d\n", Patient.getTotalPatients()));
-        statisticsBuilder.append(String.format("Total patients completed their visit: %d\n", Patient.getCompletedPatients()));
+        statisticsBuilder.append(String.format("Simulation ended at time: %.2f\n", clock.getTime()));
+        if (statisticsStartTime > 0) {
+            statisticsBuilder.append(String.format("Statistics collected after the warm-up, from time: %.2f\n", statisticsStartTime));
+        }
+        statisticsBuilder.append(String.format("Total patients arrived at the healthcare center: %d\n", patientStatistics.getTotalPatients()));
+        statisticsBuilder.append(String.format("Total patients completed their visit: %d\n", patientStatistics.getCompletedPatients()));
         statisticsBuilder.append("---------------------------------\n");
 
         // Visited service points
@@ -233,42 +643,62 @@ public class HealthCentre extends AbstractHealthCentre {
         statisticsBuilder.append(String.format("  Treatment: %.2f%%\n", treatment.getUtilizationRate() * 100));
         statisticsBuilder.append("---------------------------------\n");
 
+        // Queueing statistics for each service point
+        statisticsBuilder.append("Service Point Queues:\n");
+        statisticsBuilder.append(String.format("  Check-In: %s\n", checkIn.getStatistics()));
+        statisticsBuilder.append(String.format("  Doctor: %s\n", doctor.getStatistics()));
+        statisticsBuilder.append(String.format("  Lab: %s\n", lab.getStatistics()));
+        statisticsBuilder.append(String.format("  X-Ray: %s\n", xRay.getStatistics()));
+        statisticsBuilder.append(String.format("  Treatment: %s\n", treatment.getStatistics()));
+        statisticsBuilder.append("---------------------------------\n");
+
         // Calculating average time
-        int completedPatients = Patient.getCompletedPatients();
-        double averageTime = (completedPatients > 0) ? Patient.getTotalTime() / (double) completedPatients : 0.0;
+        double averageTime = patientStatistics.getAverageTime();
 
         statisticsBuilder.append(String.format("Average time spent per patient (completed visits): %.2f time units\n", averageTime));
+        statisticsBuilder.append(String.format("Time spent per patient percentiles: p50 %.2f, p90 %.2f, p99 %.2f time units\n",
+                patientStatistics.getTimeInSystemQuantile(0.5), patientStatistics.getTimeInSystemQuantile(0.9),
+                patientStatistics.getTimeInSystemQuantile(0.99)));
         statisticsBuilder.append("---------------------------------\n");
 
+        // Batch means confidence intervals
+        if (batchMeans != null && batchMeans.getBatchCount() >= 2) {
+            statisticsBuilder.append(String.format("Batch Means (%d batches of %d departures, %.0f%% confidence):\n",
+                    batchMeans.getBatchCount(), batchMeans.getBatchSize(), BATCH_CONFIDENCE * 100));
+            statisticsBuilder.append(String.format("  Average time spent per patient: %s\n", getTimeInSystemInterval()));
+            String[] names = {"Check-In", "Doctor", "Lab", "X-Ray", "Treatment"};
+            for (int i = 0; i < servicePoints.length; i++) {
+                statisticsBuilder.append(String.format("  %s utilization: %s\n", names[i],
+                        batchMeans.getConfidenceInterval(i + 1, BATCH_CONFIDENCE)));
+            }
+            statisticsBuilder.append("---------------------------------\n");
+        }
+
         statisticsBuilder.append("End of report\n");
 
         return statisticsBuilder.toString();
     }
 
     /**
-     * Gathers simulation data, calculates statistics, and saves them using the
-     * data controller, including utilization rates for each service point.
+     * Gathers simulation data and calculates statistics, including utilization rates
+     * and queueing statistics for each service point.
+     *
+     * @return the results of the simulation run
      */
-    public void gatherAndSaveSimulationData() {
+    public SimulationResults gatherSimulationData() {
 
         // Calculation for patient completion time
-        int completedPatients = Patient.getCompletedPatients();
-        double averageTime = (completedPatients > 0) ? Patient.getTotalTime() / (double) completedPatients : 0.0;
-        double endTime = Clock.getInstance().getTime();
-
-        // Probabilities
-        double labProbability = dataControlller.getProbability("LAB");
-        double xrayProbability = dataControlller.getProbability("XRAY");
-        double treatmentProbability = dataControlller.getProbability("TREATMENT");
-        double noTreatmentProbability = dataControlller.getProbability("NO_TREATMENT");
+        int completedPatients = patientStatistics.getCompletedPatients();
+        double averageTime = patientStatistics.getAverageTime();
+        double endTime = clock.getTime();
 
         // Time-related values
-        double arrivalTime = dataControlller.getAverageTime("arrival");
-        double checkInTime = dataControlller.getAverageTime("check-in");
-        double doctorTime = dataControlller.getAverageTime("doctor");
-        double labTime = dataControlller.getAverageTime("lab");
-        double xrayTime = dataControlller.getAverageTime("xray");
-        double treatmentTime = dataControlller.getAverageTime("treatment");
+        double arrivalTime = config.getAverageTime("arrival");
+        double checkInTime = config.getAverageTime("check-in");
+        double doctorTime = config.getAverageTime("doctor");
+        double labTime = config.getAverageTime("lab");
+        double xrayTime = config.getAverageTime("xray");
+        double treatmentTime = config.getAverageTime("treatment");
 
         // Utilization rates for each service point
         double checkInUtilization = checkIn.getUtilizationRate();
@@ -279,14 +709,25 @@ public class HealthCentre extends AbstractHealthCentre {
 
         // Create SimulationResults object using the new constructor including utilization rates
         SimulationResults simulationResults = new SimulationResults(
-                averageTime, Patient.getTotalPatients(), completedPatients,
-                labProbability, xrayProbability, treatmentProbability, noTreatmentProbability,
+                averageTime, patientStatistics.getTotalPatients(), completedPatients,
+                config.getProbability(SimulationConfig.LAB), config.getProbability(SimulationConfig.XRAY),
+                config.getProbability(SimulationConfig.TREATMENT), config.getProbability(SimulationConfig.NO_TREATMENT),
                 arrivalTime, checkInTime, doctorTime, labTime, xrayTime, treatmentTime, endTime,
-                checkInUtilization, doctorUtilization, labUtilization, xRayUtilization, treatmentUtilization
+                checkInUtilization, doctorUtilization, labUtilization, xRayUtilization, treatmentUtilization,
+                checkIn.getStatistics(), doctor.getStatistics(), lab.getStatistics(), xRay.getStatistics(), treatment.getStatistics(),
+                patientStatistics.getTimeInSystemQuantile(0.5), patientStatistics.getTimeInSystemQuantile(0.9),
+                patientStatistics.getTimeInSystemQuantile(0.99)
         );
-
-        // Persist the simulation results using the data controller
-        dataControlller.persistSimulationResults(simulationResults);
+        simulationResults.setWarmUpTime(statisticsStartTime);
+        if (batchMeans != null && batchMeans.getBatchCount() >= 2) {
+            double[] utilizationHalfWidths = new double[servicePoints.length];
+            for (int i = 0; i < servicePoints.length; i++) {
+                utilizationHalfWidths[i] = batchMeans.getConfidenceInterval(i + 1, BATCH_CONFIDENCE).getHalfWidth();
+            }
+            simulationResults.setBatchMeans(batchMeans.getBatchCount(),
+                    getTimeInSystemInterval().getHalfWidth(), utilizationHalfWidths);
+        }
+        return simulationResults;
     }
 
 }
@@ -0,0 +1,47 @@
+package org.group8.simulator.model;
+
+/**
+ * Enumeration of the output statistics that have batch means confidence intervals, and so can decide
+ * when a run is precise enough to stop.
+ */
+public enum OutputStatistic {
+
+    /** The mean time in system of the patients that completed their visit */
+    TIME_IN_SYSTEM,
+
+    /** The utilization of the check-in */
+    CHECKIN_UTILIZATION,
+
+    /** The utilization of the doctor */
+    DOCTOR_UTILIZATION,
+
+    /** The utilization of the lab */
+    LAB_UTILIZATION,
+
+    /** The utilization of the X-ray */
+    XRAY_UTILIZATION,
+
+    /** The utilization of the treatment */
+    TREATMENT_UTILIZATION;
+
+    /**
+     * Returns the statistic of a name as given on the command line, e.g. {@code doctor-utilization}.
+     *
+     * @param name the name, in any case, with hyphens or underscores
+     * @return the statistic
+     * @throws IllegalArgumentException if there is no statistic of that name
+     */
+    public static OutputStatistic parse(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+
+    /**
+     * Returns the index of the batch means series of this statistic: the time in system first,
+     * then the service points in the order of {@link SimulationConfig#EVENTS}.
+     *
+     * @return the series index
+     */
+    int getSeries() {
+        return ordinal();
+    }
+}
@@ -0,0 +1,112 @@
+package org.group8.simulator.model;
+
+import org.group8.simulator.statistics.LogHistogram;
+
+/**
+ * The PatientStatistics class keeps the patient counters of one simulation run:
+ * the number of patients created, the number of patients that completed their visit
+ * and the total time they spent in the system. The distribution of the time in system is kept in a
+ * {@link LogHistogram}, so its quantiles are available without storing every observation.
+ * Every health centre owns its own instance, so that simultaneous runs do not share counters.
+ */
+public class PatientStatistics {
+
+    private int counter = 0;
+    // value of the counter at which the patients arriving after the last statistics reset are counted from
+    private int counterAtReset = 0;
+    private double totalTime = 0;
+    private int completedPatients = 0;
+    private final LogHistogram timeInSystem = new LogHistogram();
+
+    /**
+     * Registers a new patient and returns its ID.
+     *
+     * @return the ID of the new patient, starting at 1
+     */
+    public int nextId() {
+        return ++counter;
+    }
+
+    /**
+     * Records a patient that completed the visit.
+     *
+     * @param timeInSystem the time the patient spent in the system
+     */
+    public void recordCompletion(double timeInSystem) {
+        totalTime += timeInSystem;
+        completedPatients++;
+        this.timeInSystem.add(timeInSystem);
+    }
+
+    /**
+     * Returns the total number of patients created, or since the last {@link #resetAccumulators(int)}
+     * the number of patients arrived since then plus those present at the reset.
+     *
+     * @return the total number of patients
+     */
+    public int getTotalPatients() {
+        return counter - counterAtReset;
+    }
+
+    /**
+     * Returns the total time spent by all completed patients in the system.
+     *
+     * @return total time spent by all completed patients
+     */
+    public double getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * Returns the number of patients that have completed their visit.
+     *
+     * @return the number of completed patients
+     */
+    public int getCompletedPatients() {
+        return completedPatients;
+    }
+
+    /**
+     * Returns the average time spent in the system by the completed patients.
+     *
+     * @return the average time, or 0 if no patient has completed the visit
+     */
+    public double getAverageTime() {
+        return completedPatients > 0 ? totalTime / completedPatients : 0.0;
+    }
+
+    /**
+     * Estimates a quantile of the time spent in the system by the completed patients.
+     *
+     * @param q the probability of the quantile, e.g. 0.9 for the 90th percentile
+     * @return the estimated quantile, or 0 if no patient has completed the visit
+     */
+    public double getTimeInSystemQuantile(double q) {
+        return completedPatients > 0 ? timeInSystem.getQuantile(q) : 0.0;
+    }
+
+    /**
+     * Discards the completed visits and the arrivals recorded so far, e.g. at the end of a warm-up period,
+     * while new patients keep getting unique IDs. The patients present at the reset are counted as arrived,
+     * and their visits as completed when they depart.
+     *
+     * @param patientsPresent the number of patients in the system at the reset
+     */
+    public void resetAccumulators(int patientsPresent) {
+        counterAtReset = counter - patientsPresent;
+        totalTime = 0;
+        completedPatients = 0;
+        timeInSystem.reset();
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public void reset() {
+        counter = 0;
+        counterAtReset = 0;
+        totalTime = 0;
+        completedPatients = 0;
+        timeInSystem.reset();
+    }
+}
@@ -0,0 +1,231 @@
+package org.group8.simulator.model;
+
+import org.group8.simulator.framework.Trace;
+
+import java.util.Arrays;
+
+/**
+ * The PatientStore class keeps the patients of a simulation run in columns of primitive arrays,
+ * one column per attribute, instead of one object per patient. The model refers to a patient by
+ * its slot, an index into the columns, and passes slots around as plain {@code int}s.
+ * <p>
+ * A patient gets a slot when it arrives and gives it back when it leaves the health centre, so the
+ * columns only grow to the largest number of patients present at the same time. Freed slots are
+ * recycled from a stack, and arrivals and departures do not allocate objects. Every patient also has
+ * a unique ID, counted by the {@link PatientStatistics} of the run, which is independent of its slot.
+ */
+public class PatientStore {
+
+    /** Slot value meaning "no patient" */
+    public static final int NO_PATIENT = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final PatientStatistics statistics;
+
+    // columns, indexed by slot
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int[] servers = new int[INITIAL_CAPACITY];
+    private double[] arrivalTimes = new double[INITIAL_CAPACITY];
+    private double[] departureTimes = new double[INITIAL_CAPACITY];
+    private double[] waitingTimes = new double[INITIAL_CAPACITY];
+    private double[] serviceTimes = new double[INITIAL_CAPACITY];
+    // when the current wait or service of the patient started
+    private double[] stepStartTimes = new double[INITIAL_CAPACITY];
+
+    // freed slots, the top of the stack at freeCount - 1
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount = 0;
+    private int allocated = 0;
+
+    /**
+     * Constructs an empty store whose patients are counted by the given statistics.
+     *
+     * @param statistics the patient statistics of the simulation
+     */
+    public PatientStore(PatientStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Admits a new patient, which assigns it a unique ID and records its arrival time.
+     *
+     * @param time the arrival time
+     * @return the slot of the new patient
+     */
+    public int admit(double time) {
+        int slot = freeCount > 0 ? freeSlots[--freeCount] : allocate();
+        int id = statistics.nextId();
+        ids[slot] = id;
+        servers[slot] = -1;
+        arrivalTimes[slot] = time;
+        departureTimes[slot] = 0;
+        waitingTimes[slot] = 0;
+        serviceTimes[slot] = 0;
+        stepStartTimes[slot] = time;
+        Trace.out(Trace.Level.INFO, () -> "New patient #" + id + " arrived at: " + time);
+        return slot;
+    }
+
+    /**
+     * Records that a patient starts waiting in the queue of a service point.
+     *
+     * @param slot the slot of the patient
+     * @param time the current simulation time
+     */
+    public void enterQueue(int slot, double time) {
+        stepStartTimes[slot] = time;
+    }
+
+    /**
+     * Records that the service of a patient starts on a server, which ends the current wait.
+     *
+     * @param slot   the slot of the patient
+     * @param time   the current simulation time
+     * @param server the index of the server at its service point
+     * @return the time the patient waited in the queue
+     */
+    public double startService(int slot, double time, int server) {
+        double wait = time - stepStartTimes[slot];
+        waitingTimes[slot] += wait;
+        stepStartTimes[slot] = time;
+        servers[slot] = server;
+        return wait;
+    }
+
+    /**
+     * Records that the service of a patient ends.
+     *
+     * @param slot the slot of the patient
+     * @param time the current simulation time
+     */
+    public void endService(int slot, double time) {
+        serviceTimes[slot] += time - stepStartTimes[slot];
+        servers[slot] = -1;
+    }
+
+    /**
+     * Completes the visit of a patient: records its departure in the statistics, reports it and frees its slot.
+     *
+     * @param slot the slot of the patient
+     * @param time the departure time
+     */
+    public void complete(int slot, double time) {
+        departureTimes[slot] = time;
+        statistics.recordCompletion(time - arrivalTimes[slot]);
+        report(slot);
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Logs the visit details of a patient.
+     */
+    private void report(int slot) {
+        if (!Trace.isEnabled(Trace.Level.INFO)) {
+            return;
+        }
+        int id = ids[slot];
+        Trace.out(Trace.Level.INFO, "\n--- Patient Report ---");
+        Trace.out(Trace.Level.INFO, "Patient " + id + " completed the visit.");
+        Trace.out(Trace.Level.INFO, "Patient " + id + " arrived at " + arrivalTimes[slot] + " and departed at " + departureTimes[slot]);
+        Trace.out(Trace.Level.INFO, "Patient " + id + " spent " + (departureTimes[slot] - arrivalTimes[slot]) + " time units in the system.");
+        Trace.out(Trace.Level.INFO, "Patient " + id + " waited " + waitingTimes[slot] + " and was served " + serviceTimes[slot] + " time units.");
+        Trace.out(Trace.Level.INFO, "For now, average time spent by all patients: " + statistics.getAverageTime());
+    }
+
+    /**
+     * Returns the ID of a patient.
+     *
+     * @param slot the slot of the patient
+     * @return the ID of the patient
+     */
+    public int getId(int slot) {
+        return ids[slot];
+    }
+
+    /**
+     * Returns the server a patient is being served by.
+     *
+     * @param slot the slot of the patient
+     * @return the index of the server at its service point, or -1 if the patient is not in service
+     */
+    public int getServer(int slot) {
+        return servers[slot];
+    }
+
+    /**
+     * Returns the arrival time of a patient.
+     *
+     * @param slot the slot of the patient
+     * @return the arrival time
+     */
+    public double getArrivalTime(int slot) {
+        return arrivalTimes[slot];
+    }
+
+    /**
+     * Returns the departure time of a patient, valid until its slot is reused.
+     *
+     * @param slot the slot of the patient
+     * @return the departure time, or 0 if the patient has not departed
+     */
+    public double getDepartureTime(int slot) {
+        return departureTimes[slot];
+    }
+
+    /**
+     * Returns the total time a patient has spent waiting in queues.
+     *
+     * @param slot the slot of the patient
+     * @return the waiting time
+     */
+    public double getWaitingTime(int slot) {
+        return waitingTimes[slot];
+    }
+
+    /**
+     * Returns the total time a patient has spent in service.
+     *
+     * @param slot the slot of the patient
+     * @return the service time
+     */
+    public double getServiceTime(int slot) {
+        return serviceTimes[slot];
+    }
+
+    /**
+     * Returns the number of patients currently in the health centre.
+     *
+     * @return the number of occupied slots
+     */
+    public int size() {
+        return allocated - freeCount;
+    }
+
+    /**
+     * Returns the number of slots allocated so far, that is the largest number of patients present at the same time.
+     *
+     * @return the number of allocated slots
+     */
+    public int getCapacity() {
+        return allocated;
+    }
+
+    /**
+     * Takes a new slot from the end of the columns, growing them if necessary.
+     */
+    private int allocate() {
+        if (allocated == ids.length) {
+            int capacity = allocated * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            servers = Arrays.copyOf(servers, capacity);
+            arrivalTimes = Arrays.copyOf(arrivalTimes, capacity);
+            departureTimes = Arrays.copyOf(departureTimes, capacity);
+            waitingTimes = Arrays.copyOf(waitingTimes, capacity);
+            serviceTimes = Arrays.copyOf(serviceTimes, capacity);
+            stepStartTimes = Arrays.copyOf(stepStartTimes, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+        }
+        return allocated++;
+    }
+}
@@ -4,26 +4,68 @@ import org.group8.distributions.*;
 import org.group8.simulator.framework.Clock;
 import org.group8.simulator.framework.Event;
 import org.group8.simulator.framework.EventList;
+import org.group8.simulator.framework.IntRingQueue;
+import org.group8.simulator.framework.SampleBuffer;
 import org.group8.simulator.framework.Trace;
+import org.group8.simulator.statistics.LogHistogram;
+import org.group8.simulator.statistics.RunningStatistics;
+import org.group8.simulator.statistics.TimeWeightedStatistics;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Arrays;
 
 /**
  * The ServicePoint class represents a point in the healthcare simulation where patients receive services.
- * Each service point has a queue for waiting patients, and it generates events based on service times
- * determined by a given distribution.
+ * Each service point has a queue for waiting patients and one or more parallel servers, and it generates
+ * events based on service times determined by a given distribution.
+ * <p>
+ * Patients are referred to by their slot in the {@link PatientStore} of the simulation. The waiting
+ * patients are kept in an {@link IntRingQueue}, which neither allocates a node nor boxes a value per
+ * patient, so very long queues under congestion stay cheap.
+ * <p>
+ * A patient leaves the queue when a server starts serving them and stays in that server's slot until
+ * the service ends, so the queue only holds waiting patients. The departure event carries the patient
+ * as its payload and the patient store records the server, so the server whose service ends is found
+ * without any search and the departing patient is always the one that was served. The free servers
+ * are kept on a stack, so starting and ending a service take constant time whatever the number of servers.
+ * The busy time is accounted per server and, for the utilization rate, as the time-integral of the
+ * number of busy servers.
+ * <p>
+ * The queueing statistics are accumulated while the simulation runs, in constant memory: the queue length
+ * as a time-weighted integral updated on every enqueue and dequeue, the waiting times with Welford's
+ * running mean and variance and in a {@link LogHistogram} for their quantiles, and the number of completed
+ * services for the throughput. {@link #resetStatistics()} restarts all of them at the current time, e.g. at the
+ * end of a warm-up period, while the patients in the queue and in service stay where they are.
  */
 public class ServicePoint {
 
-    private final Queue<Patient> queue = new LinkedList<>();
-    private final SampleGenerator generator;  // Generates service times
+    private final IntRingQueue queue = new IntRingQueue();
+    private final PatientStore patients;
+    private final SampleBuffer serviceTimes;  // Service times, drawn from the generator in bulk
     private final EventList eventList;
     private final EventType scheduledEventType;
+    private final Clock clock;
 
-    private boolean busy = false;
-    private double totalBusyTime = 0;  // Tracks total busy time
-    private double lastStartTime = 0;  // Tracks when the service started
+    // servers: the patient in service and when the service started, per server
+    private final int[] inService;
+    private final double[] serviceStartTimes;
+    private final double[] serverBusyTimes;
+
+    // indices of the free servers, the top of the stack at freeCount - 1
+    private final int[] freeServers;
+    private int freeCount;
+
+    // start of the period the statistics are collected over
+    private double statisticsStartTime = 0;
+
+    // integral of the number of busy servers over time, up to lastChangeTime
+    private double busyServerTime = 0;
+    private double lastChangeTime = 0;
+
+    // queueing statistics
+    private final TimeWeightedStatistics queueLength = new TimeWeightedStatistics();
+    private final RunningStatistics waitingTimes = new RunningStatistics();
+    private final LogHistogram waitingTimeHistogram = new LogHistogram();
+    private long completedServices = 0;
 
     /**
      * Constructs a new ServicePoint with a specified service time generator, event list, and event type.
@@ -31,64 +73,141 @@ public class ServicePoint {
      * @param g    the generator for service times (e.g., negexp, poisson)
      * @param list the event list to which service completion events will be added
      * @param type the type of event scheduled after service completion (e.g., departure)
+     * @param patients the patient store of the simulation
+     */
+    public ServicePoint(SampleGenerator g, EventList list, EventType type, PatientStore patients) {
+        this(g, list, type, Clock.getInstance(), patients);
+    }
+
+    /**
+     * Constructs a new single-server ServicePoint bound to the clock of a particular simulation.
+     *
+     * @param g     the generator for service times (e.g., negexp, poisson)
+     * @param list  the event list to which service completion events will be added
+     * @param type  the type of event scheduled after service completion (e.g., departure)
+     * @param clock the clock of the simulation the service point belongs to
+     * @param patients the patient store of the simulation
+     */
+    public ServicePoint(SampleGenerator g, EventList list, EventType type, Clock clock, PatientStore patients) {
+        this(g, list, type, clock, patients, 1);
+    }
+
+    /**
+     * Constructs a new ServicePoint with the given number of parallel servers.
+     *
+     * @param g       the generator for service times (e.g., negexp, poisson)
+     * @param list    the event list to which service completion events will be added
+     * @param type    the type of event scheduled after service completion (e.g., departure)
+     * @param clock    the clock of the simulation the service point belongs to
+     * @param patients the patient store of the simulation
+     * @param servers  the number of servers
+     * @throws IllegalArgumentException if the number of servers is not positive
      */
-    public ServicePoint(SampleGenerator g, EventList list, EventType type) {
-        this.generator = g;
+    public ServicePoint(SampleGenerator g, EventList list, EventType type, Clock clock, PatientStore patients, int servers) {
+        if (servers < 1) {
+            throw new IllegalArgumentException("A service point needs at least one server: " + servers);
+        }
+        this.serviceTimes = new SampleBuffer(g);
         this.eventList = list;
         this.scheduledEventType = type;
+        this.clock = clock;
+        this.patients = patients;
+        this.inService = new int[servers];
+        Arrays.fill(inService, PatientStore.NO_PATIENT);
+        this.serviceStartTimes = new double[servers];
+        this.serverBusyTimes = new double[servers];
+        this.freeServers = new int[servers];
+
+        // server 0 on top, so that a single server is always server 0
+        for (int i = 0; i < servers; i++) {
+            freeServers[i] = servers - 1 - i;
+        }
+        this.freeCount = servers;
     }
 
     /**
      * Adds a patient to the service point queue.
      *
-     * @param p the patient to add to the queue
+     * @param patient the slot of the patient to add to the queue
      */
-    public void addToQueue(Patient p) {
-        queue.add(p);
+    public void addToQueue(int patient) {
+        double now = clock.getTime();
+        patients.enterQueue(patient, now);
+        queue.add(patient);
+        queueLength.update(now, queue.size());
     }
 
     /**
-     * Removes a patient from the service point queue, marking the service point as no longer busy.
+     * Ends the service described by a departure event of this service point and frees its server.
      *
-     * @return the patient removed from the queue
+     * @param e the departure event, carrying the slot of the patient
+     * @return the slot of the patient whose service ended
+     * @throws IllegalStateException if no server of this service point is serving the patient of the event
      */
-    public Patient removeFromQueue() {
-        // Calculate the time the service point was busy
-        double endTime = Clock.getInstance().getTime();
-        if (busy) {
-            totalBusyTime += (endTime - lastStartTime);
+    public int endService(Event e) {
+        int patient = e.getPayload();
+        int server = patients.getServer(patient);
+        if (server < 0 || server >= inService.length || inService[server] != patient) {
+            throw new IllegalStateException("Patient " + patients.getId(patient) + " is not in service here");
         }
+        return endService(server);
+    }
 
-        busy = false;  // Mark as no longer busy
-        return queue.poll();
+    /**
+     * Ends the service of the given server and frees it.
+     *
+     * @param server the index of the server
+     * @return the slot of the patient whose service ended
+     * @throws IllegalStateException if the server is not serving a patient
+     */
+    public int endService(int server) {
+        int p = inService[server];
+        if (p == PatientStore.NO_PATIENT) {
+            throw new IllegalStateException("Server " + server + " is not serving a patient");
+        }
+        double now = clock.getTime();
+        accumulateBusyTime(now);
+        serverBusyTimes[server] += now - serviceStartTimes[server];
+        inService[server] = PatientStore.NO_PATIENT;
+        freeServers[freeCount++] = server;
+        completedServices++;
+        patients.endService(p, now);
+        return p;
     }
 
     /**
-     * Starts the service for the next patient in the queue. It generates a service completion event
-     * based on the service time sampled from the generator.
+     * Starts the service for the next patient in the queue on a free server. It generates a service
+     * completion event, carrying the patient, based on the service time sampled from the generator.
      */
     public void startService() {
-        if (queue.isEmpty()) return; // Avoid null-exception when queue is empty
-        Trace.out(Trace.Level.INFO, "Starting service for patient " + queue.peek().getId());
+        if (queue.isEmpty() || freeCount == 0) return; // Nothing to do without a waiting patient and a free server
+        int p = queue.poll();
+        Trace.out(Trace.Level.INFO, () -> "Starting service for patient " + patients.getId(p));
 
-        busy = true;
-        lastStartTime = Clock.getInstance().getTime();  // Record the time service starts
-        Patient p = queue.peek();
-        double serviceTime = generator.sampleAsDouble();
-        eventList.add(new Event(scheduledEventType, Clock.getInstance().getTime() + serviceTime));
+        double now = clock.getTime();
+        accumulateBusyTime(now);
+        int server = freeServers[--freeCount];
+        inService[server] = p;
+        serviceStartTimes[server] = now;  // Record the time service starts
+        queueLength.update(now, queue.size());
+        double wait = patients.startService(p, now, server);
+        waitingTimes.add(wait);
+        waitingTimeHistogram.add(wait);
+        double serviceTime = serviceTimes.next();
+        eventList.add(scheduledEventType, now + serviceTime, p);
     }
 
     /**
-     * Checks if the service point is currently busy.
+     * Checks if all servers of the service point are busy.
      *
-     * @return {@code true} if the service point is busy, {@code false} otherwise
+     * @return {@code true} if no server is free, {@code false} otherwise
      */
     public boolean isBusy() {
-        return busy;
+        return freeCount == 0;
     }
 
     /**
-     * Checks if there are patients in the queue.
+     * Checks if there are patients waiting in the queue.
      *
      * @return {@code true} if the queue is not empty, {@code false} otherwise
      */
@@ -97,12 +216,179 @@ public class ServicePoint {
     }
 
     /**
-     * Gets the utilization rate of the service point.
+     * Returns the number of patients waiting in the queue, not counting the patients in service.
+     *
+     * @return the queue length
+     */
+    public int getQueueLength() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the patient served by a server.
+     *
+     * @param server the index of the server
+     * @return the slot of the patient in service, or {@link PatientStore#NO_PATIENT} if the server is free
+     */
+    public int getPatientInService(int server) {
+        return inService[server];
+    }
+
+    /**
+     * Returns the number of servers.
+     *
+     * @return the number of servers
+     */
+    public int getServerCount() {
+        return inService.length;
+    }
+
+    /**
+     * Returns the number of servers currently serving a patient.
+     *
+     * @return the number of busy servers
+     */
+    public int getBusyServerCount() {
+        return inService.length - freeCount;
+    }
+
+    /**
+     * Returns the time a server has been busy, including a service in progress.
+     *
+     * @param server the index of the server
+     * @return the busy time of the server
+     */
+    public double getServerBusyTime(int server) {
+        double busyTime = serverBusyTimes[server];
+        if (inService[server] != PatientStore.NO_PATIENT) {
+            busyTime += clock.getTime() - serviceStartTimes[server];
+        }
+        return busyTime;
+    }
+
+    /**
+     * Gets the utilization rate of the service point: the average fraction of busy servers
+     * since the start of the statistics period, including the services in progress.
      *
      * @return the utilization rate as a percentage (0 to 1)
      */
     public double getUtilizationRate() {
-        double totalTime = Clock.getInstance().getTime();  // Total simulation time
-        return totalBusyTime / totalTime;  // Utilization rate as a ratio
+        double totalTime = clock.getTime() - statisticsStartTime;  // Total time the statistics are collected over
+        return getBusyServerTime() / (totalTime * inService.length);  // Utilization rate as a ratio
+    }
+
+    /**
+     * Returns the time-integral of the number of busy servers since the start of the statistics period,
+     * including the services in progress.
+     *
+     * @return the busy server time
+     */
+    public double getBusyServerTime() {
+        return busyServerTime + (inService.length - freeCount) * (clock.getTime() - lastChangeTime);
+    }
+
+    /**
+     * Returns the time-averaged number of patients waiting in the queue (L_q) since the start of the statistics period.
+     *
+     * @return the average queue length
+     */
+    public double getAverageQueueLength() {
+        return queueLength.getMean(clock.getTime());
+    }
+
+    /**
+     * Returns the longest queue seen since the start of the statistics period.
+     *
+     * @return the maximum queue length
+     */
+    public int getMaxQueueLength() {
+        return (int) queueLength.getMax();
+    }
+
+    /**
+     * Returns the statistics of the waiting times in the queue (W_q) of the patients whose service has started.
+     *
+     * @return the waiting time statistics
+     */
+    public RunningStatistics getWaitingTimes() {
+        return waitingTimes;
+    }
+
+    /**
+     * Estimates a quantile of the waiting times in the queue.
+     *
+     * @param q the probability of the quantile, e.g. 0.9 for the 90th percentile
+     * @return the estimated quantile, or 0 if no service has started
+     */
+    public double getWaitingTimeQuantile(double q) {
+        return waitingTimeHistogram.getCount() > 0 ? waitingTimeHistogram.getQuantile(q) : 0;
+    }
+
+    /**
+     * Returns the number of services completed since the start of the statistics period.
+     *
+     * @return the number of completed services
+     */
+    public long getCompletedServices() {
+        return completedServices;
+    }
+
+    /**
+     * Returns the throughput of the service point: the number of completed services per time unit.
+     *
+     * @return the throughput, or 0 if no time has elapsed
+     */
+    public double getThroughput() {
+        double elapsed = clock.getTime() - statisticsStartTime;
+        return elapsed > 0 ? completedServices / elapsed : 0;
+    }
+
+    /**
+     * Returns a snapshot of the queueing statistics of the service point.
+     *
+     * @return the statistics
+     */
+    public StationStatistics getStatistics() {
+        double maxWait = waitingTimes.getCount() > 0 ? waitingTimes.getMax() : 0;
+        return new StationStatistics(getAverageQueueLength(), waitingTimes.getMean(), waitingTimes.getStandardDeviation(),
+                maxWait, getWaitingTimeQuantile(0.5), getWaitingTimeQuantile(0.9), getWaitingTimeQuantile(0.99),
+                getThroughput());
+    }
+
+    /**
+     * Discards the statistics collected so far and starts collecting them again at the current time.
+     * The queue, the patients in service and their scheduled departures are not affected.
+     */
+    public void resetStatistics() {
+        double now = clock.getTime();
+        statisticsStartTime = now;
+        busyServerTime = 0;
+        lastChangeTime = now;
+        for (int server = 0; server < inService.length; server++) {
+            serverBusyTimes[server] = 0;
+            // a service in progress only counts from now on
+            serviceStartTimes[server] = now;
+        }
+        queueLength.reset(now);
+        waitingTimes.reset();
+        waitingTimeHistogram.reset();
+        completedServices = 0;
+    }
+
+    /**
+     * Returns the time the statistics have been collected from: zero, or the time of the last reset.
+     *
+     * @return the start of the statistics period
+     */
+    public double getStatisticsStartTime() {
+        return statisticsStartTime;
+    }
+
+    /**
+     * Adds the busy server time since the last change of the number of busy servers.
+     */
+    private void accumulateBusyTime(double now) {
+        busyServerTime += (inService.length - freeCount) * (now - lastChangeTime);
+        lastChangeTime = now;
     }
 }
@@ -0,0 +1,330 @@
+package org.group8.simulator.model;
+
+import org.group8.controller.IDataControlller;
+import org.group8.distributions.UniformSource;
+import org.group8.distributions.VariateMethod;
+import org.group8.simulator.framework.RoutingTable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The SimulationConfig class is an immutable snapshot of the configuration of a simulation run:
+ * the distribution and average time of every event, the number of servers of every service point,
+ * the routing probabilities after the doctor's consultation, and the uniform random number generator
+ * of seeded runs. It is loaded once before the run, so the model never reads the database while
+ * events are processed, and it can be shared by simulations running in parallel.
+ * <p>
+ * The routing probabilities are also kept as an alias {@link RoutingTable} in the order of
+ * {@link #ROUTING_DECISIONS}, from which {@link #route(double)} picks the next step of a patient
+ * in constant time.
+ */
+public final class SimulationConfig {
+
+    /** The events that have a distribution, in the order they are loaded */
+    public static final String[] EVENTS = {"arrival", "check-in", "doctor", "lab", "xray", "treatment"};
+
+    /** The routing decisions after the doctor's consultation, in the order of the routing table */
+    public static final String[] ROUTING_DECISIONS = {"NO_TREATMENT", "LAB", "XRAY", "TREATMENT"};
+
+    /** Index of the decision to leave without further treatment */
+    public static final int NO_TREATMENT = 0;
+    /** Index of the decision to go to the lab */
+    public static final int LAB = 1;
+    /** Index of the decision to go to the x-ray */
+    public static final int XRAY = 2;
+    /** Index of the decision to go to treatment */
+    public static final int TREATMENT = 3;
+
+    // the rounding error allowed in a sum of routing probabilities
+    private static final double PROBABILITY_TOLERANCE = 1e-9;
+
+    private final Map<String, Distribution> distributions;
+    private final Map<String, Integer> serverCounts;
+    private final double[] probabilities;
+    private final RoutingTable routingTable;
+    private final UniformSource uniformSource;
+    private final VariateMethod variateMethod;
+
+    /**
+     * Constructs a configuration from the given distributions and routing probabilities,
+     * with one server at every service point.
+     *
+     * @param distributions the distribution of every event in {@link #EVENTS}, by event name
+     * @param probabilities the probability of every decision in {@link #ROUTING_DECISIONS}, by decision type
+     * @throws IllegalArgumentException if a distribution or probability is missing, a probability is negative
+     *                                  or all probabilities are zero
+     */
+    public SimulationConfig(Map<String, Distribution> distributions, Map<String, Double> probabilities) {
+        this(distributions, probabilities, Map.of());
+    }
+
+    /**
+     * Constructs a configuration from the given distributions, routing probabilities and server counts.
+     * The values are copied, so later changes of the arguments do not affect the configuration.
+     *
+     * @param distributions the distribution of every event in {@link #EVENTS}, by event name
+     * @param probabilities the probability of every decision in {@link #ROUTING_DECISIONS}, by decision type
+     * @param serverCounts  the number of servers by event name; service points not listed have one server
+     * @throws IllegalArgumentException if a distribution or probability is missing, a probability is negative,
+     *                                  all probabilities are zero or a server count is not positive
+     */
+    public SimulationConfig(Map<String, Distribution> distributions, Map<String, Double> probabilities,
+                            Map<String, Integer> serverCounts) {
+        Map<String, Distribution> copies = new LinkedHashMap<>();
+        for (String event : EVENTS) {
+            Distribution distribution = distributions.get(event);
+            if (distribution == null) {
+                throw new IllegalArgumentException("No distribution for event " + event);
+            }
+            copies.put(event, new Distribution(event, distribution.getDistribution(), distribution.getAverageTime()));
+        }
+        this.distributions = Collections.unmodifiableMap(copies);
+
+        Map<String, Integer> servers = new LinkedHashMap<>();
+        for (String event : EVENTS) {
+            int count = serverCounts.getOrDefault(event, 1);
+            if (count < 1) {
+                throw new IllegalArgumentException("Invalid number of servers for " + event + ": " + count);
+            }
+            servers.put(event, count);
+        }
+        for (String event : serverCounts.keySet()) {
+            if (!servers.containsKey(event)) {
+                throw new IllegalArgumentException("Unknown event " + event);
+            }
+        }
+        this.serverCounts = Collections.unmodifiableMap(servers);
+
+        this.probabilities = new double[ROUTING_DECISIONS.length];
+        for (int i = 0; i < ROUTING_DECISIONS.length; i++) {
+            Double probability = probabilities.get(ROUTING_DECISIONS[i]);
+            if (probability == null || probability < 0) {
+                throw new IllegalArgumentException("Invalid probability for " + ROUTING_DECISIONS[i] + ": " + probability);
+            }
+            this.probabilities[i] = probability;
+        }
+        this.routingTable = new RoutingTable(this.probabilities);
+        this.uniformSource = UniformSource.SPLITMIX64;
+        this.variateMethod = VariateMethod.ZIGGURAT;
+    }
+
+    private SimulationConfig(SimulationConfig config, UniformSource uniformSource, VariateMethod variateMethod) {
+        this.distributions = config.distributions;
+        this.serverCounts = config.serverCounts;
+        this.probabilities = config.probabilities;
+        this.routingTable = config.routingTable;
+        this.uniformSource = uniformSource;
+        this.variateMethod = variateMethod;
+    }
+
+    /**
+     * Loads the configuration through the given data controller.
+     *
+     * @param dataController the data controller providing distributions and probabilities
+     * @return the configuration snapshot
+     */
+    public static SimulationConfig load(IDataControlller dataController) {
+        Map<String, Distribution> distributions = new LinkedHashMap<>();
+        for (String event : EVENTS) {
+            distributions.put(event, dataController.getDistributionObject(event));
+        }
+        Map<String, Double> probabilities = new LinkedHashMap<>();
+        for (String decision : ROUTING_DECISIONS) {
+            probabilities.put(decision, dataController.getProbability(decision));
+        }
+        return new SimulationConfig(distributions, probabilities);
+    }
+
+    /**
+     * Returns the distribution type of an event, e.g. "negexp".
+     *
+     * @param event the event name
+     * @return the distribution type
+     */
+    public String getDistributionType(String event) {
+        return distribution(event).getDistribution();
+    }
+
+    /**
+     * Returns the average time of an event.
+     *
+     * @param event the event name
+     * @return the average time
+     */
+    public double getAverageTime(String event) {
+        return distribution(event).getAverageTime();
+    }
+
+    /**
+     * Returns the number of parallel servers of a service point.
+     *
+     * @param event the event name of the service point
+     * @return the number of servers
+     */
+    public int getServerCount(String event) {
+        distribution(event);
+        return serverCounts.get(event);
+    }
+
+    /**
+     * Returns a copy of this configuration with the given server counts.
+     *
+     * @param counts the number of servers by event name; service points not listed keep their count
+     * @return the new configuration
+     */
+    public SimulationConfig withServerCounts(Map<String, Integer> counts) {
+        Map<String, Integer> servers = new LinkedHashMap<>(serverCounts);
+        servers.putAll(counts);
+        Map<String, Double> decisions = new LinkedHashMap<>();
+        for (int i = 0; i < ROUTING_DECISIONS.length; i++) {
+            decisions.put(ROUTING_DECISIONS[i], probabilities[i]);
+        }
+        return new SimulationConfig(new SimulationConfig(distributions, decisions, servers), uniformSource, variateMethod);
+    }
+
+    /**
+     * Returns a copy of this configuration whose seeded runs draw their random numbers from the given generator.
+     *
+     * @param uniformSource the uniform random number generator
+     * @return the new configuration
+     */
+    public SimulationConfig withUniformSource(UniformSource uniformSource) {
+        return new SimulationConfig(this, uniformSource, variateMethod);
+    }
+
+    /**
+     * Returns the uniform random number generator of seeded runs, SplitMix64 by default.
+     *
+     * @return the uniform random number generator
+     */
+    public UniformSource getUniformSource() {
+        return uniformSource;
+    }
+
+    /**
+     * Returns a copy of this configuration whose exponential distributions are sampled with the given method.
+     *
+     * @param variateMethod the sampling method
+     * @return the new configuration
+     */
+    public SimulationConfig withVariateMethod(VariateMethod variateMethod) {
+        return new SimulationConfig(this, uniformSource, variateMethod);
+    }
+
+    /**
+     * Returns the sampling method of the exponential distributions, the Ziggurat method by default.
+     *
+     * @return the sampling method
+     */
+    public VariateMethod getVariateMethod() {
+        return variateMethod;
+    }
+
+    /**
+     * Returns a copy of this configuration with some parameters changed, as in a parameter sweep.
+     * A parameter is either the average time of the distribution of an event, named by the event,
+     * e.g. {@code doctor}, or the probability of a routing decision, named by the decision type, e.g. {@code LAB}.
+     * <p>
+     * The routing probabilities of the copy sum to one. Decisions that are not listed keep their
+     * probability, and TREATMENT takes the rest, as the residual decision after the doctor. If TREATMENT
+     * is listed itself, the listed and the kept probabilities must already sum to one.
+     *
+     * @param parameters the new values by parameter name; parameters not listed keep their value
+     * @return the new configuration
+     * @throws IllegalArgumentException if a parameter is unknown or its value is invalid, or if the routing
+     *                                  probabilities cannot sum to one
+     */
+    public SimulationConfig with(Map<String, Double> parameters) {
+        Map<String, Distribution> events = new LinkedHashMap<>(distributions);
+        Map<String, Double> decisions = new LinkedHashMap<>();
+        for (int i = 0; i < ROUTING_DECISIONS.length; i++) {
+            decisions.put(ROUTING_DECISIONS[i], getProbability(i));
+        }
+        boolean routingChanged = false;
+        for (Map.Entry<String, Double> parameter : parameters.entrySet()) {
+            String name = parameter.getKey();
+            double value = parameter.getValue();
+            if (events.containsKey(name)) {
+                if (!(value > 0)) {
+                    throw new IllegalArgumentException("Invalid average time for " + name + ": " + value);
+                }
+                events.put(name, new Distribution(name, getDistributionType(name), value));
+            } else if (decisions.containsKey(name)) {
+                if (!(value >= 0 && value <= 1)) {
+                    throw new IllegalArgumentException("Invalid probability for " + name + ": " + value);
+                }
+                decisions.put(name, value);
+                routingChanged = true;
+            } else {
+                throw new IllegalArgumentException("Unknown parameter " + name);
+            }
+        }
+        if (routingChanged) {
+            rebalance(decisions, parameters.containsKey(ROUTING_DECISIONS[TREATMENT]));
+        }
+        return new SimulationConfig(new SimulationConfig(events, decisions, serverCounts), uniformSource, variateMethod);
+    }
+
+    /**
+     * Makes the routing probabilities sum to one, by giving TREATMENT the rest unless it was set explicitly.
+     */
+    private static void rebalance(Map<String, Double> decisions, boolean treatmentSet) {
+        String residual = ROUTING_DECISIONS[TREATMENT];
+        double others = 0;
+        for (String decision : ROUTING_DECISIONS) {
+            if (!decision.equals(residual)) {
+                others += decisions.get(decision);
+            }
+        }
+        if (treatmentSet) {
+            if (Math.abs(others + decisions.get(residual) - 1) > PROBABILITY_TOLERANCE) {
+                throw new IllegalArgumentException("Routing probabilities do not sum to 1: " + decisions);
+            }
+        } else if (others > 1 + PROBABILITY_TOLERANCE) {
+            throw new IllegalArgumentException("Routing probabilities leave nothing for " + residual + ": " + decisions);
+        } else {
+            decisions.put(residual, Math.max(0, 1 - others));
+        }
+    }
+
+    /**
+     * Returns the probability of a routing decision as the patients are routed, that is normalized
+     * so that the probabilities of all decisions sum to one.
+     *
+     * @param decision the index of the decision in {@link #ROUTING_DECISIONS}
+     * @return the probability
+     */
+    public double getProbability(int decision) {
+        return routingTable.getProbability(decision);
+    }
+
+    /**
+     * Picks a routing decision with the routing table. The probabilities are normalized,
+     * so every patient is routed even if they do not sum to exactly one.
+     *
+     * @param u a uniform random number in [0, 1)
+     * @return the index of the decision in {@link #ROUTING_DECISIONS}
+     */
+    public int route(double u) {
+        return routingTable.sample(u);
+    }
+
+    /**
+     * Returns the routing table of the decisions after the doctor's consultation.
+     *
+     * @return the routing table
+     */
+    public RoutingTable getRoutingTable() {
+        return routingTable;
+    }
+
+    private Distribution distribution(String event) {
+        Distribution distribution = distributions.get(event);
+        if (distribution == null) {
+            throw new IllegalArgumentException("Unknown event " + event);
+        }
+        return distribution;
+    }
+}
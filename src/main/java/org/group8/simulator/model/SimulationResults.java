@@ -5,14 +5,17 @@ import jakarta.persistence.*;
 /**
  * The SimulationResults class represents the results of a simulation run.
  * It stores various metrics such as average time, probabilities, times spent at different service points,
- * and utilization rates for each service point. This class is mapped to the "simulation_results" table in the database.
+ * utilization rates and queueing statistics for each service point. This class is mapped to the "simulation_results" table in the database.
  */
 @Entity
 @Table(name = "simulation_results")
 public class SimulationResults {
 
+    // a sequence rather than an identity column, so that the inserts of a sweep can be sent in JDBC batches;
+    // the allocation size matches SimulationResultsDao.FLUSH_INTERVAL and hibernate.jdbc.batch_size
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "simulation_results_seq")
+    @SequenceGenerator(name = "simulation_results_seq", sequenceName = "simulation_results_seq", allocationSize = 50)
     @Column(name = "Simulation_id", nullable = false, unique = true)
     private long simulationId;
 
@@ -75,6 +78,118 @@ public class SimulationResults {
     @Column(name = "treatment_utilization", nullable = false)
     private double treatmentUtilization;
 
+    // time the statistics are collected from, after the warm-up
+
+    @Column(name = "warm_up_time", nullable = false)
+    private double warmUpTime;
+
+    // number of replications averaged into these results, 1 for a single run
+
+    @Column(name = "replications", nullable = false)
+    private int replications = 1;
+
+    // half-widths of the confidence intervals, from the batch means of a single run or from the replications,
+    // and the number of batches, 0 without batch means
+
+    @Column(name = "batch_count", nullable = false)
+    private int batchCount;
+
+    @Column(name = "average_time_half_width", nullable = false)
+    private double averageTimeHalfWidth;
+
+    @Column(name = "checkin_utilization_half_width", nullable = false)
+    private double checkInUtilizationHalfWidth;
+
+    @Column(name = "doctor_utilization_half_width", nullable = false)
+    private double doctorUtilizationHalfWidth;
+
+    @Column(name = "lab_utilization_half_width", nullable = false)
+    private double labUtilizationHalfWidth;
+
+    @Column(name = "xray_utilization_half_width", nullable = false)
+    private double xrayUtilizationHalfWidth;
+
+    @Column(name = "treatment_utilization_half_width", nullable = false)
+    private double treatmentUtilizationHalfWidth;
+
+    // quantiles of the time spent in the system
+
+    @Column(name = "time_in_system_p50", nullable = false)
+    private double timeInSystemP50;
+
+    @Column(name = "time_in_system_p90", nullable = false)
+    private double timeInSystemP90;
+
+    @Column(name = "time_in_system_p99", nullable = false)
+    private double timeInSystemP99;
+
+    // queueing statistics of the service points
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "averageQueueLength", column = @Column(name = "checkin_average_queue_length", nullable = false)),
+            @AttributeOverride(name = "averageWait", column = @Column(name = "checkin_average_wait", nullable = false)),
+            @AttributeOverride(name = "waitStdDev", column = @Column(name = "checkin_wait_std_dev", nullable = false)),
+            @AttributeOverride(name = "maxWait", column = @Column(name = "checkin_max_wait", nullable = false)),
+            @AttributeOverride(name = "waitP50", column = @Column(name = "checkin_wait_p50", nullable = false)),
+            @AttributeOverride(name = "waitP90", column = @Column(name = "checkin_wait_p90", nullable = false)),
+            @AttributeOverride(name = "waitP99", column = @Column(name = "checkin_wait_p99", nullable = false)),
+            @AttributeOverride(name = "throughput", column = @Column(name = "checkin_throughput", nullable = false))
+    })
+    private StationStatistics checkInStatistics = new StationStatistics();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "averageQueueLength", column = @Column(name = "doctor_average_queue_length", nullable = false)),
+            @AttributeOverride(name = "averageWait", column = @Column(name = "doctor_average_wait", nullable = false)),
+            @AttributeOverride(name = "waitStdDev", column = @Column(name = "doctor_wait_std_dev", nullable = false)),
+            @AttributeOverride(name = "maxWait", column = @Column(name = "doctor_max_wait", nullable = false)),
+            @AttributeOverride(name = "waitP50", column = @Column(name = "doctor_wait_p50", nullable = false)),
+            @AttributeOverride(name = "waitP90", column = @Column(name = "doctor_wait_p90", nullable = false)),
+            @AttributeOverride(name = "waitP99", column = @Column(name = "doctor_wait_p99", nullable = false)),
+            @AttributeOverride(name = "throughput", column = @Column(name = "doctor_throughput", nullable = false))
+    })
+    private StationStatistics doctorStatistics = new StationStatistics();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "averageQueueLength", column = @Column(name = "lab_average_queue_length", nullable = false)),
+            @AttributeOverride(name = "averageWait", column = @Column(name = "lab_average_wait", nullable = false)),
+            @AttributeOverride(name = "waitStdDev", column = @Column(name = "lab_wait_std_dev", nullable = false)),
+            @AttributeOverride(name = "maxWait", column = @Column(name = "lab_max_wait", nullable = false)),
+            @AttributeOverride(name = "waitP50", column = @Column(name = "lab_wait_p50", nullable = false)),
+            @AttributeOverride(name = "waitP90", column = @Column(name = "lab_wait_p90", nullable = false)),
+            @AttributeOverride(name = "waitP99", column = @Column(name = "lab_wait_p99", nullable = false)),
+            @AttributeOverride(name = "throughput", column = @Column(name = "lab_throughput", nullable = false))
+    })
+    private StationStatistics labStatistics = new StationStatistics();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "averageQueueLength", column = @Column(name = "xray_average_queue_length", nullable = false)),
+            @AttributeOverride(name = "averageWait", column = @Column(name = "xray_average_wait", nullable = false)),
+            @AttributeOverride(name = "waitStdDev", column = @Column(name = "xray_wait_std_dev", nullable = false)),
+            @AttributeOverride(name = "maxWait", column = @Column(name = "xray_max_wait", nullable = false)),
+            @AttributeOverride(name = "waitP50", column = @Column(name = "xray_wait_p50", nullable = false)),
+            @AttributeOverride(name = "waitP90", column = @Column(name = "xray_wait_p90", nullable = false)),
+            @AttributeOverride(name = "waitP99", column = @Column(name = "xray_wait_p99", nullable = false)),
+            @AttributeOverride(name = "throughput", column = @Column(name = "xray_throughput", nullable = false))
+    })
+    private StationStatistics xrayStatistics = new StationStatistics();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "averageQueueLength", column = @Column(name = "treatment_average_queue_length", nullable = false)),
+            @AttributeOverride(name = "averageWait", column = @Column(name = "treatment_average_wait", nullable = false)),
+            @AttributeOverride(name = "waitStdDev", column = @Column(name = "treatment_wait_std_dev", nullable = false)),
+            @AttributeOverride(name = "maxWait", column = @Column(name = "treatment_max_wait", nullable = false)),
+            @AttributeOverride(name = "waitP50", column = @Column(name = "treatment_wait_p50", nullable = false)),
+            @AttributeOverride(name = "waitP90", column = @Column(name = "treatment_wait_p90", nullable = false)),
+            @AttributeOverride(name = "waitP99", column = @Column(name = "treatment_wait_p99", nullable = false)),
+            @AttributeOverride(name = "throughput", column = @Column(name = "treatment_throughput", nullable = false))
+    })
+    private StationStatistics treatmentStatistics = new StationStatistics();
+
     /**
      * Constructs a SimulationResults object with all the necessary metrics for a simulation run, including utilization rates.
      *
@@ -127,6 +242,62 @@ public class SimulationResults {
         this.treatmentUtilization = treatmentUtilization;
     }
 
+    /**
+     * Constructs a SimulationResults object with all the metrics of a simulation run, including the queueing
+     * statistics of every service point and the quantiles of the time in system.
+     *
+     * @param averageTime          the average time spent by patients
+     * @param totalPatients        the total number of patients
+     * @param completedVisits      the number of patients who completed their visits
+     * @param labProbability       the probability of being referred to the lab
+     * @param xrayProbability      the probability of being referred to x-ray
+     * @param treatmentProbability the probability of being referred to treatment
+     * @param noTreatmentProbability the probability of not being referred to treatment
+     * @param arrivalTime          the average arrival time
+     * @param checkInTime          the time spent at check-in
+     * @param doctorTime           the time spent with the doctor
+     * @param labTime              the time spent in the lab
+     * @param xrayTime             the time spent in x-ray
+     * @param treatmentTime        the time spent in treatment
+     * @param endTime              the total simulation end time
+     * @param checkInUtilization   the utilization rate of the check-in service point
+     * @param doctorUtilization    the utilization rate of the doctor service point
+     * @param labUtilization       the utilization rate of the lab service point
+     * @param xrayUtilization      the utilization rate of the x-ray service point
+     * @param treatmentUtilization the utilization rate of the treatment service point
+     * @param checkInStatistics    the queueing statistics of the check-in service point
+     * @param doctorStatistics     the queueing statistics of the doctor service point
+     * @param labStatistics        the queueing statistics of the lab service point
+     * @param xrayStatistics       the queueing statistics of the x-ray service point
+     * @param treatmentStatistics  the queueing statistics of the treatment service point
+     * @param timeInSystemP50      the median time spent by patients in the system
+     * @param timeInSystemP90      the 90th percentile of the time spent in the system
+     * @param timeInSystemP99      the 99th percentile of the time spent in the system
+     */
+    public SimulationResults(
+            double averageTime, int totalPatients, int completedVisits,
+            double labProbability, double xrayProbability, double treatmentProbability, double noTreatmentProbability,
+            double arrivalTime, double checkInTime, double doctorTime, double labTime,
+            double xrayTime, double treatmentTime, double endTime,
+            double checkInUtilization, double doctorUtilization, double labUtilization,
+            double xrayUtilization, double treatmentUtilization,
+            StationStatistics checkInStatistics, StationStatistics doctorStatistics, StationStatistics labStatistics,
+            StationStatistics xrayStatistics, StationStatistics treatmentStatistics,
+            double timeInSystemP50, double timeInSystemP90, double timeInSystemP99) {
+        this(averageTime, totalPatients, completedVisits,
+                labProbability, xrayProbability, treatmentProbability, noTreatmentProbability,
+                arrivalTime, checkInTime, doctorTime, labTime, xrayTime, treatmentTime, endTime,
+                checkInUtilization, doctorUtilization, labUtilization, xrayUtilization, treatmentUtilization);
+        this.checkInStatistics = checkInStatistics;
+        this.doctorStatistics = doctorStatistics;
+        this.labStatistics = labStatistics;
+        this.xrayStatistics = xrayStatistics;
+        this.treatmentStatistics = treatmentStatistics;
+        this.timeInSystemP50 = timeInSystemP50;
+        this.timeInSystemP90 = timeInSystemP90;
+        this.timeInSystemP99 = timeInSystemP99;
+    }
+
     public SimulationResults() {}
 
     // Getters for utilization fields
@@ -151,6 +322,120 @@ public class SimulationResults {
         return treatmentUtilization;
     }
 
+    public double getWarmUpTime() {
+        return warmUpTime;
+    }
+
+    /**
+     * Sets the time at which the warm-up ended and the statistics started to be collected.
+     *
+     * @param warmUpTime the end of the warm-up, 0 if the whole run was observed
+     */
+    public void setWarmUpTime(double warmUpTime) {
+        this.warmUpTime = warmUpTime;
+    }
+
+    public int getBatchCount() {
+        return batchCount;
+    }
+
+    public double getAverageTimeHalfWidth() {
+        return averageTimeHalfWidth;
+    }
+
+    public double getCheckInUtilizationHalfWidth() {
+        return checkInUtilizationHalfWidth;
+    }
+
+    public double getDoctorUtilizationHalfWidth() {
+        return doctorUtilizationHalfWidth;
+    }
+
+    public double getLabUtilizationHalfWidth() {
+        return labUtilizationHalfWidth;
+    }
+
+    public double getXrayUtilizationHalfWidth() {
+        return xrayUtilizationHalfWidth;
+    }
+
+    public double getTreatmentUtilizationHalfWidth() {
+        return treatmentUtilizationHalfWidth;
+    }
+
+    /**
+     * Sets the batch means confidence intervals of the run, given by their half-widths.
+     *
+     * @param batchCount           the number of batches the intervals were computed from
+     * @param averageTimeHalfWidth the half-width of the average time in system
+     * @param utilizationHalfWidths the half-widths of the check-in, doctor, lab, X-ray and treatment utilizations
+     */
+    public void setBatchMeans(int batchCount, double averageTimeHalfWidth, double... utilizationHalfWidths) {
+        this.batchCount = batchCount;
+        setHalfWidths(averageTimeHalfWidth, utilizationHalfWidths);
+    }
+
+    public int getReplications() {
+        return replications;
+    }
+
+    /**
+     * Marks these results as the means of several replications, with the half-widths of the confidence
+     * intervals computed from the replications.
+     *
+     * @param replications          the number of replications
+     * @param averageTimeHalfWidth  the half-width of the average time in system
+     * @param utilizationHalfWidths the half-widths of the check-in, doctor, lab, X-ray and treatment utilizations
+     */
+    public void setReplications(int replications, double averageTimeHalfWidth, double... utilizationHalfWidths) {
+        this.replications = replications;
+        this.batchCount = 0;
+        setHalfWidths(averageTimeHalfWidth, utilizationHalfWidths);
+    }
+
+    private void setHalfWidths(double averageTimeHalfWidth, double[] utilizationHalfWidths) {
+        this.averageTimeHalfWidth = averageTimeHalfWidth;
+        this.checkInUtilizationHalfWidth = utilizationHalfWidths[0];
+        this.doctorUtilizationHalfWidth = utilizationHalfWidths[1];
+        this.labUtilizationHalfWidth = utilizationHalfWidths[2];
+        this.xrayUtilizationHalfWidth = utilizationHalfWidths[3];
+        this.treatmentUtilizationHalfWidth = utilizationHalfWidths[4];
+    }
+
+    public double getTimeInSystemP50() {
+        return timeInSystemP50;
+    }
+
+    public double getTimeInSystemP90() {
+        return timeInSystemP90;
+    }
+
+    public double getTimeInSystemP99() {
+        return timeInSystemP99;
+    }
+
+    // Getters for the queueing statistics of the service points
+
+    public StationStatistics getCheckInStatistics() {
+        return checkInStatistics;
+    }
+
+    public StationStatistics getDoctorStatistics() {
+        return doctorStatistics;
+    }
+
+    public StationStatistics getLabStatistics() {
+        return labStatistics;
+    }
+
+    public StationStatistics getXrayStatistics() {
+        return xrayStatistics;
+    }
+
+    public StationStatistics getTreatmentStatistics() {
+        return treatmentStatistics;
+    }
+
     public long getSimulationId() { return simulationId; }
 
     public double getAverageTime() { return averageTime; }
@@ -206,4 +491,50 @@ public class SimulationResults {
     public double getEndTime() {
         return endTime;
     }
+
+    /**
+     * Returns the column names of the CSV representation of the results.
+     *
+     * @return the CSV header line
+     */
+    public static String csvHeader() {
+        return "average_time,total_patients,completed_visits,"
+                + "lab_probability,xray_probability,treatment_probability,no_treatment_probability,"
+                + "arrival_time,checkin_time,doctor_time,lab_time,xray_time,treatment_time,end_time,"
+                + "checkin_utilization,doctor_utilization,lab_utilization,xray_utilization,treatment_utilization,"
+                + "time_in_system_p50,time_in_system_p90,time_in_system_p99,"
+                + StationStatistics.csvHeader("checkin") + "," + StationStatistics.csvHeader("doctor") + ","
+                + StationStatistics.csvHeader("lab") + "," + StationStatistics.csvHeader("xray") + ","
+                + StationStatistics.csvHeader("treatment") + ",warm_up_time,replications,batch_count,average_time_half_width,"
+                + "checkin_utilization_half_width,doctor_utilization_half_width,lab_utilization_half_width,"
+                + "xray_utilization_half_width,treatment_utilization_half_width";
+    }
+
+    /**
+     * Returns the results as one CSV line matching {@link #csvHeader()}.
+     *
+     * @return the CSV line
+     */
+    public String toCsvRow() {
+        StringBuilder row = new StringBuilder();
+        row.append(averageTime).append(',').append(totalPatients).append(',').append(completedVisits);
+        for (double value : new double[]{
+                labProbability, xrayProbability, treatmentProbability, noTreatmentProbability,
+                arrivalTime, checkInTime, doctorTime, labTime, xrayTime, treatmentTime, endTime,
+                checkInUtilization, doctorUtilization, labUtilization, xrayUtilization, treatmentUtilization,
+                timeInSystemP50, timeInSystemP90, timeInSystemP99}) {
+            row.append(',').append(value);
+        }
+        for (StationStatistics station : new StationStatistics[]{
+                checkInStatistics, doctorStatistics, labStatistics, xrayStatistics, treatmentStatistics}) {
+            station.appendCsv(row);
+        }
+        row.append(',').append(warmUpTime).append(',').append(replications).append(',').append(batchCount);
+        for (double value : new double[]{
+                averageTimeHalfWidth, checkInUtilizationHalfWidth, doctorUtilizationHalfWidth,
+                labUtilizationHalfWidth, xrayUtilizationHalfWidth, treatmentUtilizationHalfWidth}) {
+            row.append(',').append(value);
+        }
+        return row.toString();
+    }
 }
@@ -0,0 +1,125 @@
+package org.group8.simulator.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * The StationStatistics class holds the queueing metrics of one service point at the end of a run:
+ * the time-averaged queue length (L_q), the mean, standard deviation and maximum of the waiting time
+ * in the queue (W_q) with its 50th, 90th and 99th percentiles, and the throughput in patients served
+ * per time unit. It is embedded in {@link SimulationResults} once per service point.
+ */
+@Embeddable
+public class StationStatistics {
+
+    @Column(name = "average_queue_length", nullable = false)
+    private double averageQueueLength;
+
+    @Column(name = "average_wait", nullable = false)
+    private double averageWait;
+
+    @Column(name = "wait_std_dev", nullable = false)
+    private double waitStdDev;
+
+    @Column(name = "max_wait", nullable = false)
+    private double maxWait;
+
+    @Column(name = "wait_p50", nullable = false)
+    private double waitP50;
+
+    @Column(name = "wait_p90", nullable = false)
+    private double waitP90;
+
+    @Column(name = "wait_p99", nullable = false)
+    private double waitP99;
+
+    @Column(name = "throughput", nullable = false)
+    private double throughput;
+
+    /**
+     * Constructs the statistics of a service point.
+     *
+     * @param averageQueueLength the time-averaged number of waiting patients
+     * @param averageWait        the mean waiting time in the queue
+     * @param waitStdDev         the standard deviation of the waiting time
+     * @param maxWait            the longest waiting time
+     * @param waitP50            the median waiting time
+     * @param waitP90            the 90th percentile of the waiting time
+     * @param waitP99            the 99th percentile of the waiting time
+     * @param throughput         the number of services completed per time unit
+     */
+    public StationStatistics(double averageQueueLength, double averageWait, double waitStdDev, double maxWait,
+                             double waitP50, double waitP90, double waitP99, double throughput) {
+        this.averageQueueLength = averageQueueLength;
+        this.averageWait = averageWait;
+        this.waitStdDev = waitStdDev;
+        this.maxWait = maxWait;
+        this.waitP50 = waitP50;
+        this.waitP90 = waitP90;
+        this.waitP99 = waitP99;
+        this.throughput = throughput;
+    }
+
+    public StationStatistics() {}
+
+    public double getAverageQueueLength() {
+        return averageQueueLength;
+    }
+
+    public double getAverageWait() {
+        return averageWait;
+    }
+
+    public double getWaitStdDev() {
+        return waitStdDev;
+    }
+
+    public double getMaxWait() {
+        return maxWait;
+    }
+
+    public double getWaitP50() {
+        return waitP50;
+    }
+
+    public double getWaitP90() {
+        return waitP90;
+    }
+
+    public double getWaitP99() {
+        return waitP99;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    /**
+     * Returns the column names of the CSV representation, each prefixed with the name of the service point.
+     *
+     * @param prefix the name of the service point, e.g. "doctor"
+     * @return the CSV header fragment, without a leading or trailing comma
+     */
+    static String csvHeader(String prefix) {
+        return prefix + "_average_queue_length," + prefix + "_average_wait," + prefix + "_wait_std_dev,"
+                + prefix + "_max_wait," + prefix + "_wait_p50," + prefix + "_wait_p90," + prefix + "_wait_p99,"
+                + prefix + "_throughput";
+    }
+
+    /**
+     * Appends the values to a CSV row, each preceded by a comma.
+     *
+     * @param row the row to append to
+     */
+    void appendCsv(StringBuilder row) {
+        row.append(',').append(averageQueueLength).append(',').append(averageWait).append(',').append(waitStdDev)
+                .append(',').append(maxWait).append(',').append(waitP50).append(',').append(waitP90)
+                .append(',').append(waitP99).append(',').append(throughput);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Lq %.2f, Wq %.2f (sd %.2f, p50 %.2f, p90 %.2f, p99 %.2f, max %.2f), throughput %.4f/time unit",
+                averageQueueLength, averageWait, waitStdDev, waitP50, waitP90, waitP99, maxWait, throughput);
+    }
+}
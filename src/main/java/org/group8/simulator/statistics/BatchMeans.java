@@ -0,0 +1,117 @@
+package org.group8.simulator.statistics;
+
+/**
+ * The BatchMeans class computes confidence intervals from a single long run with the method of batch means.
+ * The output of the run is split into consecutive batches, the batch means are treated as approximately
+ * independent and normally distributed observations, and a Student-t interval is computed from them.
+ * <p>
+ * Several output series are batched together at the same boundaries. Every batch of a series is given as a
+ * numerator and a denominator, so that means of observations (the sum and the count) and time averages
+ * (the integral and the duration) are both supported, and the mean of a batch is their ratio.
+ * <p>
+ * The caller fills every batch with {@link #getBatchSize()} units, e.g. departures. The number of batches
+ * is kept between the requested number k and 2k: when 2k batches are complete, neighbouring batches are
+ * merged and the batch size doubles, so the batches grow with the run and the memory stays constant.
+ */
+public class BatchMeans {
+
+    private final int minBatches;
+    private final double[][] numerators;
+    private final double[][] denominators;
+    private int batches = 0;
+    private int batchSize;
+
+    /**
+     * Constructs an empty batch means estimator.
+     *
+     * @param series           the number of output series
+     * @param minBatches       the number of batches k, at least 2
+     * @param initialBatchSize the number of units in the first batches
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public BatchMeans(int series, int minBatches, int initialBatchSize) {
+        if (series < 1 || minBatches < 2 || initialBatchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch means parameters");
+        }
+        this.minBatches = minBatches;
+        this.numerators = new double[series][2 * minBatches];
+        this.denominators = new double[series][2 * minBatches];
+        this.batchSize = initialBatchSize;
+    }
+
+    /**
+     * Adds a complete batch.
+     *
+     * @param batchNumerators   the numerator of every series in the batch, e.g. a sum or an integral
+     * @param batchDenominators the denominator of every series in the batch, e.g. a count or a duration
+     */
+    public void addBatch(double[] batchNumerators, double[] batchDenominators) {
+        for (int s = 0; s < numerators.length; s++) {
+            numerators[s][batches] = batchNumerators[s];
+            denominators[s][batches] = batchDenominators[s];
+        }
+        batches++;
+        if (batches == 2 * minBatches) {
+            merge();
+        }
+    }
+
+    /**
+     * Returns the number of units each new batch should hold.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns the number of complete batches.
+     *
+     * @return the number of batches
+     */
+    public int getBatchCount() {
+        return batches;
+    }
+
+    /**
+     * Returns the mean of a series in a batch.
+     *
+     * @param series the index of the series
+     * @param batch  the index of the batch
+     * @return the batch mean, or {@code NaN} if its denominator is zero
+     */
+    public double getBatchMean(int series, int batch) {
+        return denominators[series][batch] != 0 ? numerators[series][batch] / denominators[series][batch] : Double.NaN;
+    }
+
+    /**
+     * Computes the confidence interval of a series from the means of the complete batches.
+     * The half-width is infinite with fewer than two batches.
+     *
+     * @param series     the index of the series
+     * @param confidence the confidence level, e.g. 0.95
+     * @return the confidence interval
+     */
+    public ConfidenceInterval getConfidenceInterval(int series, double confidence) {
+        double[] means = new double[batches];
+        for (int b = 0; b < batches; b++) {
+            means[b] = getBatchMean(series, b);
+        }
+        return ConfidenceInterval.of(means, confidence);
+    }
+
+    /**
+     * Merges neighbouring batches, which halves the number of batches and doubles the batch size.
+     */
+    private void merge() {
+        for (int s = 0; s < numerators.length; s++) {
+            for (int b = 0; b < batches / 2; b++) {
+                numerators[s][b] = numerators[s][2 * b] + numerators[s][2 * b + 1];
+                denominators[s][b] = denominators[s][2 * b] + denominators[s][2 * b + 1];
+            }
+        }
+        batches /= 2;
+        batchSize *= 2;
+    }
+}
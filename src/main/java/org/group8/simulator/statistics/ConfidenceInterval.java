@@ -0,0 +1,108 @@
+package org.group8.simulator.statistics;
+
+/**
+ * The ConfidenceInterval class represents a Student-t confidence interval for a mean,
+ * computed from independent and identically distributed observations.
+ */
+public class ConfidenceInterval {
+
+    private final double mean;
+    private final double halfWidth;
+    private final double confidence;
+    private final int observations;
+
+    /**
+     * Constructs a confidence interval from its mean and half-width.
+     *
+     * @param mean         the sample mean
+     * @param halfWidth    the half-width of the interval
+     * @param confidence   the confidence level, e.g. 0.95
+     * @param observations the number of observations the interval is based on
+     */
+    public ConfidenceInterval(double mean, double halfWidth, double confidence, int observations) {
+        this.mean = mean;
+        this.halfWidth = halfWidth;
+        this.confidence = confidence;
+        this.observations = observations;
+    }
+
+    /**
+     * Computes the confidence interval of the mean of the given observations.
+     * The half-width is infinite when there are fewer than two observations.
+     *
+     * @param values     the observations
+     * @param confidence the confidence level, e.g. 0.95
+     * @return the confidence interval
+     */
+    public static ConfidenceInterval of(double[] values, double confidence) {
+        int n = values.length;
+        if (n == 0) {
+            return new ConfidenceInterval(Double.NaN, Double.POSITIVE_INFINITY, confidence, 0);
+        }
+
+        // Welford's algorithm for the mean and the variance
+        double mean = 0;
+        double m2 = 0;
+        for (int i = 0; i < n; i++) {
+            double delta = values[i] - mean;
+            mean += delta / (i + 1);
+            m2 += delta * (values[i] - mean);
+        }
+        return fromMoments(mean, n > 1 ? m2 / (n - 1) : Double.NaN, n, confidence);
+    }
+
+    /**
+     * Computes the confidence interval of a mean from the sample mean and variance.
+     *
+     * @param mean       the sample mean
+     * @param variance   the unbiased sample variance
+     * @param n          the number of observations
+     * @param confidence the confidence level, e.g. 0.95
+     * @return the confidence interval
+     */
+    public static ConfidenceInterval fromMoments(double mean, double variance, int n, double confidence) {
+        if (n < 2) {
+            return new ConfidenceInterval(mean, Double.POSITIVE_INFINITY, confidence, n);
+        }
+        double t = StudentT.quantile(0.5 + confidence / 2, n - 1);
+        return new ConfidenceInterval(mean, t * Math.sqrt(variance / n), confidence, n);
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getHalfWidth() {
+        return halfWidth;
+    }
+
+    public double getConfidence() {
+        return confidence;
+    }
+
+    public int getObservations() {
+        return observations;
+    }
+
+    public double getLower() {
+        return mean - halfWidth;
+    }
+
+    public double getUpper() {
+        return mean + halfWidth;
+    }
+
+    /**
+     * Returns the half-width relative to the absolute value of the mean.
+     *
+     * @return the relative half-width, infinite if the mean is zero
+     */
+    public double getRelativeHalfWidth() {
+        return mean == 0 ? Double.POSITIVE_INFINITY : halfWidth / Math.abs(mean);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.4f ± %.4f (%.0f%%, n=%d)", mean, halfWidth, confidence * 100, observations);
+    }
+}
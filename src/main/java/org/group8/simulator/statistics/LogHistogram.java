@@ -0,0 +1,148 @@
+package org.group8.simulator.statistics;
+
+import java.util.Arrays;
+
+/**
+ * The LogHistogram class estimates quantiles of a stream of non-negative observations in bounded memory,
+ * in the manner of an HDR histogram. The buckets are logarithmic: every power of two between
+ * {@link #MIN_VALUE} and {@link #MAX_VALUE} is split into 2^{@value #SUB_BUCKET_BITS} equal sub-buckets,
+ * and the bucket of an observation is read directly from the exponent and the top mantissa bits of its
+ * {@code double} representation. A quantile is reported as the midpoint of its bucket, so its relative
+ * error is below 2^-{@value #SUB_BUCKET_BITS} whatever the number of observations.
+ * <p>
+ * Observations below {@link #MIN_VALUE}, including zero, are counted in a separate zero bucket, and
+ * observations above {@link #MAX_VALUE} in the last bucket. The exact minimum and maximum are kept,
+ * and reported quantiles are clamped to them.
+ */
+public class LogHistogram {
+
+    /** The number of mantissa bits used to split every power of two into sub-buckets */
+    public static final int SUB_BUCKET_BITS = 7;
+
+    /** The smallest observation that is not counted as zero: 2^-20 */
+    public static final double MIN_VALUE = 0x1.0p-20;
+
+    /** The largest observation with its own bucket: just below 2^44 */
+    public static final double MAX_VALUE = 0x1.0p44;
+
+    private static final int MIN_EXPONENT = -20;
+    private static final int EXPONENTS = 44 - MIN_EXPONENT;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MANTISSA_SHIFT = 52 - SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[EXPONENTS * SUB_BUCKETS];
+    private long zeroCount = 0;
+    private long count = 0;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    /**
+     * Adds an observation.
+     *
+     * @param value the observation
+     * @throws IllegalArgumentException if the value is negative or not a number
+     */
+    public void add(double value) {
+        if (!(value >= 0)) {
+            throw new IllegalArgumentException("Invalid observation: " + value);
+        }
+        if (value < MIN_VALUE) {
+            zeroCount++;
+        } else {
+            counts[bucket(value)]++;
+        }
+        if (count == 0) {
+            min = value;
+            max = value;
+        } else if (value < min) {
+            min = value;
+        } else if (value > max) {
+            max = value;
+        }
+        count++;
+    }
+
+    /**
+     * Discards all observations.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        zeroCount = 0;
+        count = 0;
+        min = Double.NaN;
+        max = Double.NaN;
+    }
+
+    /**
+     * Estimates a quantile of the observations.
+     *
+     * @param q the probability of the quantile, between 0 and 1, e.g. 0.99
+     * @return the estimated quantile, or {@code NaN} if there are no observations
+     * @throws IllegalArgumentException if q is not between 0 and 1
+     */
+    public double getQuantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Invalid quantile: " + q);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        // the smallest observation that has at least q of the observations at or below it
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = zeroCount;
+        if (seen >= rank) {
+            return min;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, Math.max(min, midpoint(i)));
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the smallest observation.
+     *
+     * @return the minimum, or {@code NaN} if there are no observations
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the largest observation.
+     *
+     * @return the maximum, or {@code NaN} if there are no observations
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the bucket of a value of at least {@link #MIN_VALUE} from its exponent and top mantissa bits.
+     */
+    private static int bucket(double value) {
+        if (value >= MAX_VALUE) {
+            return EXPONENTS * SUB_BUCKETS - 1;
+        }
+        long bits = Double.doubleToRawLongBits(value);
+        int exponent = (int) (bits >>> 52) - 1023;
+        int subBucket = (int) ((bits >>> MANTISSA_SHIFT) & (SUB_BUCKETS - 1));
+        return (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the value in the middle of a bucket.
+     */
+    private static double midpoint(int bucket) {
+        int exponent = bucket / SUB_BUCKETS + MIN_EXPONENT;
+        int subBucket = bucket % SUB_BUCKETS;
+        return Math.scalb(1.0 + (subBucket + 0.5) / SUB_BUCKETS, exponent);
+    }
+}
@@ -0,0 +1,136 @@
+package org.group8.simulator.statistics;
+
+import java.util.Arrays;
+
+/**
+ * The MserDetector class detects the end of the initial transient of a simulation output with the
+ * MSER-5 rule (White 1997; Franklin and White 2008). The observations, e.g. the times in system of the
+ * departing patients, are averaged in batches of five. For every candidate truncation point d, the
+ * marginal standard error of the batch means after d is computed as
+ * <pre>
+ *     MSER(d) = sum_{i > d} (Z_i - mean(Z_{d+1..k}))^2 / (k - d)^2
+ * </pre>
+ * and the truncation point is the d that minimizes it over the first half of the k batches.
+ * <p>
+ * Applied to a run while it is in progress, MSER tends to keep the early data as long as the transient
+ * makes up most of the output, because the variance of a slow drift grows with the retained data just
+ * like the divisor. The output is therefore only considered steady once there are at least
+ * {@link #MIN_BATCHES} batches and the truncation point lies in the first quarter of them, that is
+ * once the data after the truncation point outweighs the transient at least three to one.
+ * <p>
+ * The batch means are kept in a bounded array: when it is full, neighbouring batches are merged and
+ * the batch size doubles, so the memory stays constant however long the detector runs.
+ */
+public class MserDetector {
+
+    /** The batch size of the MSER-5 rule */
+    public static final int BATCH_SIZE = 5;
+
+    /** The number of batches needed before the output can be considered steady */
+    public static final int MIN_BATCHES = 100;
+
+    private static final int MAX_BATCHES = 1024;
+
+    private final double[] means = new double[MAX_BATCHES];
+    private int batches = 0;
+    private int batchSize = BATCH_SIZE;
+    private double batchSum = 0;
+    private int batchCount = 0;
+
+    /**
+     * Adds an observation. The result of {@link #isSteady()} can only change when a batch is completed,
+     * so callers only need to check it when this method returns {@code true}.
+     *
+     * @param value the observation
+     * @return {@code true} if the observation completed a batch
+     */
+    public boolean add(double value) {
+        batchSum += value;
+        if (++batchCount < batchSize) {
+            return false;
+        }
+        means[batches++] = batchSum / batchSize;
+        batchSum = 0;
+        batchCount = 0;
+        if (batches == MAX_BATCHES) {
+            merge();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the truncation point that minimizes the marginal standard error.
+     *
+     * @return the number of leading batches to discard, between 0 and half the number of batches
+     */
+    public int getTruncationBatches() {
+        int limit = batches / 2;
+        double sum = 0;
+        double sumOfSquares = 0;
+        double best = Double.POSITIVE_INFINITY;
+        int truncation = limit;
+        // sweep the candidates from the last batch back, so the sums of the retained batches are running sums
+        for (int d = batches - 1; d >= 0; d--) {
+            sum += means[d];
+            sumOfSquares += means[d] * means[d];
+            if (d <= limit) {
+                int n = batches - d;
+                double statistic = Math.max(0, sumOfSquares - sum * sum / n) / ((double) n * n);
+                if (statistic <= best) {
+                    best = statistic;
+                    truncation = d;
+                }
+            }
+        }
+        return truncation;
+    }
+
+    /**
+     * Returns the truncation point in number of observations.
+     *
+     * @return the number of leading observations to discard
+     */
+    public long getTruncationObservations() {
+        return (long) getTruncationBatches() * batchSize;
+    }
+
+    /**
+     * Checks if the output has reached its steady state: there are enough batches and the
+     * truncation point lies in the first quarter of them.
+     *
+     * @return {@code true} if the initial transient is over
+     */
+    public boolean isSteady() {
+        return batches >= MIN_BATCHES && getTruncationBatches() < batches / 4;
+    }
+
+    /**
+     * Returns the number of complete batches.
+     *
+     * @return the number of batches
+     */
+    public int getBatchCount() {
+        return batches;
+    }
+
+    /**
+     * Returns the current number of observations per batch.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Merges neighbouring batches, which halves the number of batches and doubles the batch size.
+     */
+    private void merge() {
+        for (int i = 0; i < batches / 2; i++) {
+            means[i] = (means[2 * i] + means[2 * i + 1]) / 2;
+        }
+        Arrays.fill(means, batches / 2, batches, 0);
+        batches /= 2;
+        batchSize *= 2;
+    }
+}
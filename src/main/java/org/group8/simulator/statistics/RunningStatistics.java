@@ -0,0 +1,90 @@
+package org.group8.simulator.statistics;
+
+/**
+ * The RunningStatistics class accumulates the count, mean, variance, minimum and maximum of a stream
+ * of observations in constant memory, with Welford's numerically stable update of the mean and the
+ * sum of squared deviations. Every observation is added in O(1) and nothing is stored.
+ */
+public class RunningStatistics {
+
+    private long count = 0;
+    private double mean = 0;
+    private double m2 = 0;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    /**
+     * Adds an observation.
+     *
+     * @param value the observation
+     */
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        if (count == 1) {
+            min = value;
+            max = value;
+        } else if (value < min) {
+            min = value;
+        } else if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Discards all observations.
+     */
+    public void reset() {
+        count = 0;
+        mean = 0;
+        m2 = 0;
+        min = Double.NaN;
+        max = Double.NaN;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean of the observations.
+     *
+     * @return the mean, or 0 if there are no observations
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the unbiased sample variance of the observations.
+     *
+     * @return the variance, or 0 if there are fewer than two observations
+     */
+    public double getVariance() {
+        return count > 1 ? m2 / (count - 1) : 0;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Returns the smallest observation.
+     *
+     * @return the minimum, or {@code NaN} if there are no observations
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the largest observation.
+     *
+     * @return the maximum, or {@code NaN} if there are no observations
+     */
+    public double getMax() {
+        return max;
+    }
+}
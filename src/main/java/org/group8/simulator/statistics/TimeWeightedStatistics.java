@@ -0,0 +1,93 @@
+package org.group8.simulator.statistics;
+
+/**
+ * The TimeWeightedStatistics class accumulates the time average of a piecewise-constant quantity,
+ * such as a queue length, in constant memory. The quantity is reported every time it changes, and
+ * the integral of the quantity over time is advanced by the previous value times the elapsed time.
+ * The maximum value is tracked as well.
+ */
+public class TimeWeightedStatistics {
+
+    private double startTime;
+    private double lastTime;
+    private double value = 0;
+    private double integral = 0;
+    private double max = 0;
+
+    /**
+     * Constructs an accumulator for a quantity that is zero from time zero on.
+     */
+    public TimeWeightedStatistics() {
+        this(0);
+    }
+
+    /**
+     * Constructs an accumulator for a quantity that is zero from the given time on.
+     *
+     * @param startTime the start of the observation period
+     */
+    public TimeWeightedStatistics(double startTime) {
+        this.startTime = startTime;
+        this.lastTime = startTime;
+    }
+
+    /**
+     * Records that the quantity takes a new value at the given time.
+     *
+     * @param time  the time of the change, not before the previous change
+     * @param value the new value
+     */
+    public void update(double time, double value) {
+        integral += this.value * (time - lastTime);
+        lastTime = time;
+        this.value = value;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Discards the history and starts a new observation period at the given time, keeping the current value.
+     *
+     * @param time the start of the new observation period
+     */
+    public void reset(double time) {
+        startTime = time;
+        lastTime = time;
+        integral = 0;
+        max = value;
+    }
+
+    /**
+     * Returns the integral of the quantity from the start of the observation period to the given time.
+     *
+     * @param time the end of the period, not before the last change
+     * @return the integral over time
+     */
+    public double getIntegral(double time) {
+        return integral + value * (time - lastTime);
+    }
+
+    /**
+     * Returns the time average of the quantity from the start of the observation period to the given time.
+     *
+     * @param time the end of the period, not before the last change
+     * @return the time average, or the current value if no time has elapsed
+     */
+    public double getMean(double time) {
+        double elapsed = time - startTime;
+        return elapsed > 0 ? getIntegral(time) / elapsed : value;
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getStartTime() {
+        return startTime;
+    }
+}
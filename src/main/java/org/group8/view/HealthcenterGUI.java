@@ -54,6 +54,7 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
     // time and delay fields
     private TextField setTimeField;
     private TextField setDelayField;
+    private TextField setSpeedField;
 
     // status label
     private Label statusLabel;
@@ -63,6 +64,7 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
     private Button stopButton;
     private Button updateTimeButton;
     private Button updateDelayButton;
+    private Button updateSpeedButton;
     private Button speedUpButton;
     private Button speedDownButton;
     private Button statisticsButton;
@@ -599,6 +601,10 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
         setDelayField.setPromptText("Set Delay in ms");
         updateDelayButton = new Button("Update Delay");
 
+        setSpeedField = new TextField();
+        setSpeedField.setPromptText("Sim minutes per second");
+        updateSpeedButton = new Button("Update Speed");
+
         speedUpButton = new Button("Speed Up");
         speedDownButton = new Button("Speed Down");
 
@@ -632,9 +638,11 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
         gridPane.add(updateDelayButton, 1, 1);
         gridPane.add(speedUpButton, 2, 1);
         gridPane.add(speedDownButton, 3, 1);
-        gridPane.add(runButton, 0, 2);
-        gridPane.add(stopButton, 1, 2);
-        gridPane.add(statisticsButton, 3, 2);
+        gridPane.add(setSpeedField, 0, 2);
+        gridPane.add(updateSpeedButton, 1, 2);
+        gridPane.add(runButton, 0, 3);
+        gridPane.add(stopButton, 1, 3);
+        gridPane.add(statisticsButton, 3, 3);
 
         HBox gridBox = new HBox();
         gridBox.setSpacing(150);
@@ -751,6 +759,7 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
     private void setupEventHandlers() {
         updateTimeButton.setOnAction(e -> updateSimulationTime());
         updateDelayButton.setOnAction(e -> updateSimulationDelay());
+        updateSpeedButton.setOnAction(e -> updateSimulationSpeed());
         speedUpButton.setOnAction(e -> controller.speedUp());
         speedDownButton.setOnAction(e -> controller.slowDown());
         runButton.setOnAction(e -> startSimulation());
@@ -785,6 +794,16 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
         controller.setDelay(getDelay());
     }
 
+    /**
+     * Updates the speed ratio of the simulation based on user input.
+     *
+     * A positive speed ratio paces the simulation against the wall clock,
+     * an empty field or zero turns pacing off so that the delay is used again.
+     */
+    private void updateSimulationSpeed() {
+        controller.setSpeedRatio(getSpeedRatio());
+    }
+
     /**
      * Initiates the simulation and updates the status label.
      *
@@ -841,6 +860,7 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
         stopButton.setDisable(true);
         updateTimeButton.setDisable(true);
         updateDelayButton.setDisable(true);
+        updateSpeedButton.setDisable(true);
         speedUpButton.setDisable(true);
         speedDownButton.setDisable(true);
         statisticsButton.setDisable(true);
@@ -857,6 +877,7 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
     private void addInputValidationListeners() {
         setTimeField.textProperty().addListener((observable, oldValue, newValue) -> validateInput());
         setDelayField.textProperty().addListener((observable, oldValue, newValue) -> validateInput());
+        setSpeedField.textProperty().addListener((observable, oldValue, newValue) -> validateInput());
     }
 
     /**
@@ -869,7 +890,8 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
     private void validateInput() {
         boolean isTimeValid = isValidDouble(setTimeField.getText());
         boolean isDelayValid = isValidLong(setDelayField.getText());
-        runButton.setDisable(!(isTimeValid && isDelayValid));
+        boolean isSpeedValid = isValidSpeed(setSpeedField.getText());
+        runButton.setDisable(!(isTimeValid && isDelayValid && isSpeedValid));
     }
 
     /**
@@ -888,6 +910,24 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
         }
     }
 
+    /**
+     * Validates whether the given input string is empty or can be parsed as a non-negative double value.
+     *
+     * @param input the string to validate
+     * @return {@code true} if the input is a valid speed ratio; {@code false} otherwise
+     */
+    private boolean isValidSpeed(String input) {
+        if (input == null || input.isBlank()) {
+            return true;
+        }
+        try {
+            double value = Double.parseDouble(input);
+            return value >= 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
     /**
      * Validates whether the given input string can be parsed as a non-negative long value.
      *
@@ -917,6 +957,7 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
         speedUpButton.setDisable(false);
         updateTimeButton.setDisable(false);
         updateDelayButton.setDisable(false);
+        updateSpeedButton.setDisable(false);
         speedDownButton.setDisable(false);
         statisticsButton.setDisable(false);
     }
@@ -1015,6 +1056,20 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
         return Long.parseLong(setDelayField.getText());
     }
 
+    /**
+     * Retrieves the speed ratio from the input field.
+     *
+     * <p>The speed ratio is the number of simulated minutes per wall-clock second.
+     * An empty field means that the simulation is not paced.</p>
+     *
+     * @return the speed ratio, or 0 if the simulation is not paced.
+     */
+    @Override
+    public double getSpeedRatio() {
+        String text = setSpeedField.getText();
+        return text == null || text.isBlank() ? 0 : Double.parseDouble(text);
+    }
+
     /**
      * Displays a dialog showing the statistics of the simulation.
      *
@@ -1218,9 +1273,12 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
                 StringBuilder statistics = new StringBuilder();
                 statistics.append("Simulation ID: ").append(selectedResult.getSimulationId()).append("\n");
                 statistics.append("Average Time: ").append(String.format("%.2f", selectedResult.getAverageTime())).append("\n");
+                statistics.append("Time Percentiles: ").append(String.format("p50 %.2f, p90 %.2f, p99 %.2f",
+                        selectedResult.getTimeInSystemP50(), selectedResult.getTimeInSystemP90(), selectedResult.getTimeInSystemP99())).append("\n");
                 statistics.append("Total Patients: ").append(selectedResult.getTotalPatients()).append("\n");
                 statistics.append("Completed Visits: ").append(selectedResult.getCompletedVisits()).append("\n");
-                statistics.append("End Time: ").append(String.format("%.2f", selectedResult.getEndTime())).append("\n\n");
+                statistics.append("End Time: ").append(String.format("%.2f", selectedResult.getEndTime())).append("\n");
+                statistics.append("Warm-up Time: ").append(String.format("%.2f", selectedResult.getWarmUpTime())).append("\n\n");
                 statistics.append("--Distributions\n\n");
                 statistics.append("Arrival Time: ").append(selectedResult.getArrivalTime()).append("\n");
                 statistics.append("Check-in Time: ").append(selectedResult.getCheckInTime()).append("\n");
@@ -1239,6 +1297,12 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
                 statistics.append("Lab Utilization: ").append(String.format("%.2f%%", selectedResult.getLabUtilization() * 100)).append("\n");
                 statistics.append("X-ray Utilization: ").append(String.format("%.2f%%", selectedResult.getXrayUtilization() * 100)).append("\n");
                 statistics.append("Treatment Utilization: ").append(String.format("%.2f%%", selectedResult.getTreatmentUtilization() * 100)).append("\n");
+                statistics.append("\n--Queues\n\n");
+                statistics.append("Check-In: ").append(selectedResult.getCheckInStatistics()).append("\n");
+                statistics.append("Doctor: ").append(selectedResult.getDoctorStatistics()).append("\n");
+                statistics.append("Lab: ").append(selectedResult.getLabStatistics()).append("\n");
+                statistics.append("X-ray: ").append(selectedResult.getXrayStatistics()).append("\n");
+                statistics.append("Treatment: ").append(selectedResult.getTreatmentStatistics()).append("\n");
                 statistics.append("------------------------------\n");
 
                 // Update the detailsArea with the selected simulation's statistics
@@ -1336,6 +1400,7 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
         speedDownButton.setDisable(true);
         updateTimeButton.setDisable(true);
         updateDelayButton.setDisable(true);
+        updateSpeedButton.setDisable(true);
 
 
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
@@ -1396,7 +1461,7 @@ public class HealthcenterGUI extends Application implements IHealthcenterGUI {
 
         // Calculate percentage and update the label
         int percentage = (int) (progress * 100);
-        Platform.runLater(() -> progressLabel.setText(percentage + "%"));
+        progressLabel.setText(percentage + "%");
     }
 
 
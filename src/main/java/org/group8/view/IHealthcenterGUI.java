@@ -10,6 +10,7 @@ public interface IHealthcenterGUI {
     // The controller needs inputs, which it forwards to the Healthcenter
     double getTime();  // Method to get the current time
     long getDelay();   // Method to get the delay
+    double getSpeedRatio();   // Method to get the simulation minutes per second, 0 if not paced
 
     void showStatistics(String statistics);
     void endSimulation();
@@ -0,0 +1,85 @@
+package org.group8.controller;
+
+import org.group8.controller.DisplayUpdateAggregator.Station;
+import org.group8.view.IHealthcenterGUI;
+import org.group8.view.IVisualization;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DisplayUpdateAggregatorTest {
+
+    private IHealthcenterGUI mockGui;
+    private IVisualization mockCheckInCanvas;
+    private IVisualization mockDoctorCanvas;
+    private DisplayUpdateAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        mockGui = mock(IHealthcenterGUI.class);
+        mockCheckInCanvas = mock(IVisualization.class);
+        mockDoctorCanvas = mock(IVisualization.class);
+        when(mockGui.getCheckInCanvas()).thenReturn(mockCheckInCanvas);
+        when(mockGui.getDoctorCanvas()).thenReturn(mockDoctorCanvas);
+        aggregator = new DisplayUpdateAggregator(mockGui, 1000);
+    }
+
+    @Test
+    void testChangesAreCoalescedIntoOneSnapshot() {
+        // five patients arrive and three of them move on to the doctor before the next pulse
+        for (int i = 0; i < 5; i++) {
+            aggregator.patientAdded(Station.CHECK_IN);
+            aggregator.updateTime(i);
+        }
+        for (int i = 0; i < 3; i++) {
+            aggregator.patientRemoved(Station.CHECK_IN);
+            aggregator.patientAdded(Station.DOCTOR);
+        }
+        aggregator.publish();
+
+        verify(mockCheckInCanvas, times(2)).newPatient("sick");
+        verify(mockCheckInCanvas, never()).removePatient();
+        verify(mockDoctorCanvas, times(3)).newPatient("doctor");
+        verify(mockGui, times(1)).updateProgressBar(4.0, 1000);
+        assertEquals(2, aggregator.getDisplayedPatients(Station.CHECK_IN));
+        assertEquals(3, aggregator.getDisplayedPatients(Station.DOCTOR));
+    }
+
+    @Test
+    void testUnchangedSnapshotIsNotRedrawn() {
+        aggregator.patientAdded(Station.CHECK_IN);
+        aggregator.updateTime(1);
+        aggregator.publish();
+        aggregator.publish();
+
+        verify(mockCheckInCanvas, times(1)).newPatient("sick");
+        verify(mockGui, times(1)).updateProgressBar(1.0, 1000);
+    }
+
+    @Test
+    void testLargeChangesAreSpreadOverPulses() {
+        for (int i = 0; i < 250; i++) {
+            aggregator.patientAdded(Station.CHECK_IN);
+        }
+        aggregator.publish();
+        assertTrue(aggregator.getDisplayedPatients(Station.CHECK_IN) < 250);
+
+        aggregator.publish();
+        aggregator.publish();
+        assertEquals(250, aggregator.getDisplayedPatients(Station.CHECK_IN));
+        verify(mockCheckInCanvas, times(250)).newPatient("sick");
+    }
+
+    @Test
+    void testPublishAllDrainsEveryChange() {
+        for (int i = 0; i < 250; i++) {
+            aggregator.patientAdded(Station.CHECK_IN);
+        }
+        aggregator.publishAll();
+
+        assertEquals(250, aggregator.getDisplayedPatients(Station.CHECK_IN));
+        verify(mockCheckInCanvas, times(250)).newPatient("sick");
+    }
+}
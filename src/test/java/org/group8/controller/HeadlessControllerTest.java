@@ -0,0 +1,150 @@
+package org.group8.controller;
+
+import org.group8.simulator.framework.EventQueueType;
+import org.group8.simulator.framework.Trace;
+import org.group8.simulator.model.Distribution;
+import org.group8.simulator.model.HealthCentre;
+import org.group8.simulator.model.OutputStatistic;
+import org.group8.simulator.model.SimulationResults;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HeadlessControllerTest {
+
+    private IDataControlller mockDataController;
+
+    @BeforeEach
+    void setUp() {
+        mockDataController = MockDataController.create();
+        Trace.setTraceLevel(Trace.Level.ERR);
+    }
+
+    @Test
+    void testRunSimulationReturnsResults() {
+        SimulationResults results = new HeadlessController(mockDataController).runSimulation(10000, 42);
+
+        assertNotNull(results);
+        assertTrue(results.getEndTime() >= 10000);
+        assertTrue(results.getCompletedVisits() > 0);
+        assertTrue(results.getCompletedVisits() <= results.getTotalPatients());
+        verify(mockDataController, never()).persistSimulationResults(any());
+    }
+
+    @Test
+    void testSameSeedGivesSameResults() {
+        HeadlessController controller = new HeadlessController(mockDataController);
+        SimulationResults first = controller.runSimulation(5000, 7);
+        SimulationResults second = controller.runSimulation(5000, 7);
+
+        assertEquals(first.toCsvRow(), second.toCsvRow());
+    }
+
+    @Test
+    void testSameSeedGivesSameResultsOnEveryEventQueue() {
+        // poisson samples are integers, so many events are scheduled for the same time
+        when(mockDataController.getDistributionObject("arrival")).thenReturn(new Distribution("arrival", "poisson", 4));
+        when(mockDataController.getDistributionObject("check-in")).thenReturn(new Distribution("check-in", "poisson", 2));
+        when(mockDataController.getDistributionObject("doctor")).thenReturn(new Distribution("doctor", "poisson", 3));
+        when(mockDataController.getDistributionObject("lab")).thenReturn(new Distribution("lab", "poisson", 6));
+        when(mockDataController.getDistributionObject("xray")).thenReturn(new Distribution("xray", "poisson", 5));
+        when(mockDataController.getDistributionObject("treatment")).thenReturn(new Distribution("treatment", "poisson", 4));
+
+        HeadlessController controller = new HeadlessController(mockDataController);
+        String expected = controller.runSimulation(20000, 3).toCsvRow();
+        for (EventQueueType type : EventQueueType.values()) {
+            controller.setEventQueueType(type);
+            assertEquals(expected, controller.runSimulation(20000, 3).toCsvRow(), type.name());
+            assertEquals(expected, controller.runSimulation(20000, 3).toCsvRow(), type.name());
+        }
+    }
+
+    @Test
+    void testPacedSimulationFollowsWallClock() {
+        HeadlessController controller = new HeadlessController(mockDataController);
+        String unpaced = controller.runSimulation(600, 5).toCsvRow();
+
+        // 600 simulated minutes at 2000 minutes per second take at least 0.3 seconds
+        HealthCentre centre = controller.createSimulation(600, 5);
+        centre.setSpeedRatio(2000);
+        long start = System.nanoTime();
+        centre.run();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        assertTrue(seconds >= 0.25, "paced run took " + seconds + " s");
+        assertEquals(unpaced, centre.getResults().toCsvRow());
+    }
+
+    @Test
+    void testMoreServersReduceUtilizationAndTime() {
+        HeadlessController controller = new HeadlessController(mockDataController);
+        SimulationResults single = controller.runSimulation(20000, 11);
+        controller.setServerCounts(Map.of("doctor", 4, "lab", 2));
+        SimulationResults multi = controller.runSimulation(20000, 11);
+
+        assertTrue(multi.getDoctorUtilization() < single.getDoctorUtilization());
+        assertTrue(multi.getLabUtilization() < single.getLabUtilization());
+        assertTrue(multi.getAverageTime() < single.getAverageTime());
+    }
+
+    @Test
+    void testWarmUpResetsStatistics() {
+        HeadlessController controller = new HeadlessController(mockDataController);
+        SimulationResults full = controller.runSimulation(20000, 13);
+        controller.setWarmUpTime(5000);
+        SimulationResults truncated = controller.runSimulation(20000, 13);
+
+        // the same run, with only the visits completed after the warm-up counted
+        assertEquals(full.getEndTime(), truncated.getEndTime());
+        assertEquals(5000, truncated.getWarmUpTime());
+        assertTrue(truncated.getCompletedVisits() < full.getCompletedVisits());
+        assertTrue(truncated.getCompletedVisits() <= truncated.getTotalPatients());
+        assertTrue(truncated.getDoctorUtilization() > 0 && truncated.getDoctorUtilization() <= 1);
+
+        // the detector resets the statistics once more, after the fixed warm-up
+        controller.setWarmUpDetection(true);
+        SimulationResults detected = controller.runSimulation(20000, 13);
+        assertTrue(detected.getWarmUpTime() > 5000 && detected.getWarmUpTime() < 20000, "reset at " + detected.getWarmUpTime());
+    }
+
+    @Test
+    void testBatchMeansStopAtTargetPrecision() {
+        HeadlessController controller = new HeadlessController(mockDataController);
+        controller.setWarmUpTime(1000);
+        controller.setBatchCount(20);
+        SimulationResults full = controller.runSimulation(50000, 17);
+        assertTrue(full.getEndTime() >= 50000);
+        assertTrue(full.getBatchCount() >= 20 && full.getBatchCount() < 40);
+        assertTrue(full.getAverageTimeHalfWidth() > 0);
+        assertTrue(full.getDoctorUtilizationHalfWidth() > 0 && full.getDoctorUtilizationHalfWidth() < 1);
+
+        // a loose target is reached long before the end, and the interval then meets it
+        controller.setTargetRelativeHalfWidth(0.2);
+        SimulationResults stopped = controller.runSimulation(50000, 17);
+        assertTrue(stopped.getEndTime() < 50000, "stopped at " + stopped.getEndTime());
+        assertTrue(stopped.getAverageTimeHalfWidth() <= 0.2 * stopped.getAverageTime() * 1.000001);
+    }
+
+    @Test
+    void testPrecisionCheckedAtCheckpoints() {
+        HeadlessController controller = new HeadlessController(mockDataController);
+        controller.setBatchCount(10);
+        controller.setTargetRelativeHalfWidth(0.1);
+        controller.setPrecisionStatistic(OutputStatistic.DOCTOR_UTILIZATION);
+        controller.setCheckpointInterval(2500);
+        HealthCentre centre = controller.createSimulation(100000, 23);
+        centre.run();
+
+        // the run ends at the first event after a checkpoint, with the doctor utilization precise enough
+        double end = centre.getCurrentTime();
+        assertTrue(end < 100000, "stopped at " + end);
+        assertTrue(end % 2500 < 100, "stopped at " + end);
+        assertTrue(centre.getInterval(OutputStatistic.DOCTOR_UTILIZATION).getRelativeHalfWidth() <= 0.1);
+
+        assertThrows(IllegalArgumentException.class, () -> centre.setCheckpointInterval(-1));
+    }
+}
@@ -0,0 +1,34 @@
+package org.group8.controller;
+
+import org.group8.simulator.model.Distribution;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Builds the mocked data controller of the headless tests, so that no database is needed.
+ */
+final class MockDataController {
+
+    private MockDataController() {
+    }
+
+    /**
+     * Creates a data controller mock with exponential distributions and the default routing probabilities.
+     *
+     * @return the mock, which tests can further stub or verify
+     */
+    static IDataControlller create() {
+        IDataControlller dataController = mock(IDataControlller.class);
+        when(dataController.getDistributionObject("arrival")).thenReturn(new Distribution("arrival", "negexp", 15));
+        when(dataController.getDistributionObject("check-in")).thenReturn(new Distribution("check-in", "negexp", 3));
+        when(dataController.getDistributionObject("doctor")).thenReturn(new Distribution("doctor", "negexp", 5));
+        when(dataController.getDistributionObject("lab")).thenReturn(new Distribution("lab", "negexp", 10));
+        when(dataController.getDistributionObject("xray")).thenReturn(new Distribution("xray", "negexp", 8));
+        when(dataController.getDistributionObject("treatment")).thenReturn(new Distribution("treatment", "negexp", 12));
+        when(dataController.getProbability("NO_TREATMENT")).thenReturn(0.1);
+        when(dataController.getProbability("LAB")).thenReturn(0.4);
+        when(dataController.getProbability("XRAY")).thenReturn(0.4);
+        when(dataController.getProbability("TREATMENT")).thenReturn(0.1);
+        return dataController;
+    }
+}
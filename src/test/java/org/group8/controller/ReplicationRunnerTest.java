@@ -0,0 +1,55 @@
+package org.group8.controller;
+
+import org.group8.simulator.framework.Trace;
+import org.group8.simulator.model.SimulationResults;
+import org.group8.simulator.statistics.ConfidenceInterval;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicationRunnerTest {
+
+    private HeadlessController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new HeadlessController(MockDataController.create());
+        Trace.setTraceLevel(Trace.Level.ERR);
+    }
+
+    @Test
+    void testParallelReplicationsAreIsolated() {
+        // the same replications run sequentially and in parallel must give the same results
+        List<SimulationResults> sequential = new ReplicationRunner(controller, 1).run(8, 5000, 11);
+        List<SimulationResults> parallel = new ReplicationRunner(controller, 4).run(8, 5000, 11);
+
+        assertEquals(8, parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).toCsvRow(), parallel.get(i).toCsvRow());
+        }
+    }
+
+    @Test
+    void testReplicationsUseDifferentStreams() {
+        List<SimulationResults> results = new ReplicationRunner(controller, 2).run(2, 5000, 11);
+
+        assertNotEquals(results.get(0).toCsvRow(), results.get(1).toCsvRow());
+    }
+
+    @Test
+    void testSummaryContainsConfidenceIntervals() {
+        ReplicationSummary summary = new ReplicationRunner(controller).runAndSummarize(10, 5000, 3);
+        ConfidenceInterval averageTime = summary.getAverageTime();
+
+        assertEquals(10, averageTime.getObservations());
+        assertTrue(averageTime.getLower() < averageTime.getMean());
+        assertTrue(averageTime.getUpper() > averageTime.getMean());
+        assertEquals(5, summary.getUtilizations().size());
+        for (ConfidenceInterval utilization : summary.getUtilizations().values()) {
+            assertTrue(utilization.getMean() > 0 && utilization.getMean() < 1);
+        }
+    }
+}
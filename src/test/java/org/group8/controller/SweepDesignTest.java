@@ -0,0 +1,46 @@
+package org.group8.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SweepDesignTest {
+
+    private final List<SweepFactor> factors = List.of(SweepFactor.parse("doctor=4:6:3"), SweepFactor.parse("LAB=0.3:0.5:5"));
+
+    @Test
+    void testGridAndFullFactorial() {
+        List<Map<String, Double>> grid = SweepDesign.GRID.points(factors, 0, 0);
+        assertEquals(15, grid.size());
+        assertEquals(Map.of("doctor", 4.0, "LAB", 0.3), grid.get(0));
+        assertEquals(Map.of("doctor", 4.0, "LAB", 0.35), grid.get(1));
+        assertEquals(Map.of("doctor", 6.0, "LAB", 0.5), grid.get(14));
+
+        List<Map<String, Double>> factorial = SweepDesign.FULL_FACTORIAL.points(factors, 0, 0);
+        assertEquals(List.of(Map.of("doctor", 4.0, "LAB", 0.3), Map.of("doctor", 4.0, "LAB", 0.5),
+                Map.of("doctor", 6.0, "LAB", 0.3), Map.of("doctor", 6.0, "LAB", 0.5)), factorial);
+
+        assertThrows(IllegalArgumentException.class, () -> SweepDesign.GRID.points(List.of(), 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> SweepFactor.parse("doctor=6:4:3"));
+    }
+
+    @Test
+    void testLatinHypercubeSamplesEveryStratumOnce() {
+        int samples = 20;
+        List<Map<String, Double>> points = SweepDesign.LATIN_HYPERCUBE.points(factors, samples, 42);
+        assertEquals(samples, points.size());
+        for (SweepFactor factor : factors) {
+            boolean[] seen = new boolean[samples];
+            for (Map<String, Double> point : points) {
+                double fraction = (point.get(factor.getName()) - factor.getMin()) / (factor.getMax() - factor.getMin());
+                int stratum = (int) (fraction * samples);
+                assertFalse(seen[stratum], factor.getName() + " stratum " + stratum);
+                seen[stratum] = true;
+            }
+        }
+        assertEquals(points, SweepDesign.LATIN_HYPERCUBE.points(factors, samples, 42));
+    }
+}
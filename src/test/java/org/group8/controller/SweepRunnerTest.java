@@ -0,0 +1,69 @@
+package org.group8.controller;
+
+import org.group8.simulator.framework.Trace;
+import org.group8.simulator.model.SimulationResults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SweepRunnerTest {
+
+    private HeadlessController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new HeadlessController(MockDataController.create());
+        Trace.setTraceLevel(Trace.Level.ERR);
+    }
+
+    @Test
+    void testOneRowPerPointInBatches() {
+        List<Map<String, Double>> points = SweepDesign.GRID.points(
+                List.of(SweepFactor.parse("doctor=4:6:3"), SweepFactor.parse("LAB=0.3:0.5:2")), 0, 0);
+        List<List<SimulationResults>> batches = new ArrayList<>();
+        new SweepRunner(controller, 4).run(points, 3, 5000, 7, 4, batches::add);
+
+        assertEquals(List.of(4, 2), batches.stream().map(List::size).toList());
+        List<SimulationResults> rows = batches.stream().flatMap(List::stream).toList();
+        for (int i = 0; i < points.size(); i++) {
+            assertEquals(points.get(i).get("doctor"), rows.get(i).getDoctorTime());
+            assertEquals(points.get(i).get("LAB"), rows.get(i).getLabProbability());
+            assertEquals(3, rows.get(i).getReplications());
+            assertTrue(rows.get(i).getAverageTimeHalfWidth() > 0);
+        }
+
+        // with common random numbers, a slower doctor is busier in the same replications
+        assertTrue(rows.get(4).getDoctorUtilization() > rows.get(0).getDoctorUtilization());
+
+        // the rows do not depend on the number of threads
+        List<SimulationResults> sequential = new SweepRunner(controller, 1).run(points, 3, 5000, 7);
+        for (int i = 0; i < points.size(); i++) {
+            assertEquals(sequential.get(i).toCsvRow(), rows.get(i).toCsvRow());
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> new SweepRunner(controller, 1).run(List.of(Map.of("dentist", 3.0)), 1, 100, 1));
+    }
+
+    @Test
+    void testSweptProbabilityIsTheRoutedFraction() {
+        // the default routing is 0.1 / 0.4 / 0.4 / 0.1, TREATMENT takes the rest of a lower LAB
+        List<SimulationResults> rows = new SweepRunner(controller, 2).run(List.of(Map.of("LAB", 0.2)), 2, 100000, 5);
+        SimulationResults row = rows.get(0);
+
+        assertEquals(0.2, row.getLabProbability(), 1e-12);
+        assertEquals(0.3, row.getTreatmentProbability(), 1e-12);
+        assertEquals(1.0, row.getLabProbability() + row.getXrayProbability()
+                + row.getTreatmentProbability() + row.getNoTreatmentProbability(), 1e-12);
+        double routedToLab = row.getLabStatistics().getThroughput() / row.getDoctorStatistics().getThroughput();
+        assertEquals(row.getLabProbability(), routedToLab, 0.02);
+
+        // probabilities that leave nothing for TREATMENT are rejected
+        assertThrows(IllegalArgumentException.class,
+                () -> new SweepRunner(controller, 1).run(List.of(Map.of("LAB", 0.6)), 1, 100, 1));
+    }
+}
@@ -0,0 +1,33 @@
+package org.group8.distributions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkSamplingTest {
+
+    @Test
+    void testFillGivesTheSameSamplesAsSampling() {
+        List<Supplier<SampleGenerator>> generators = List.of(
+                () -> new Negexp(10, 17), () -> new Poisson(4, 17), () -> new Uniform(2, 5, 17),
+                () -> new Normal(3, 4, 17), () -> new LogNormal(1, 0.25, 17), () -> new Cauchy(0, 1, 17),
+                () -> new Logistic(0, 2, 17), () -> new Pareto(3, 2, 17), () -> new Erlang(2.5, 3, 17),
+                () -> new Negexp(10, new SplitMix64(17)), () -> new Negexp(10, new JdkGenerator("L64X128MixRandom", 17)),
+                () -> new RandomGenerator(17), () -> new Gamma(2, 1.5, 17));
+        for (Supplier<SampleGenerator> supplier : generators) {
+            SampleGenerator single = supplier.get();
+            SampleGenerator bulk = supplier.get();
+            double[] filled = new double[300];
+            // uneven chunks, so the state carries over between the calls
+            bulk.fill(filled, 0, 7);
+            bulk.fill(filled, 7, 200);
+            bulk.fill(filled, 207, 93);
+            for (int i = 0; i < filled.length; i++) {
+                assertEquals(single.sampleAsDouble(), filled[i], single.getClass().getSimpleName() + " sample " + i);
+            }
+        }
+    }
+}
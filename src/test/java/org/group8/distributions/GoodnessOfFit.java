@@ -0,0 +1,34 @@
+package org.group8.distributions;
+
+/**
+ * The chi-square goodness-of-fit statistic and its critical values, shared by the tests of the generators.
+ */
+final class GoodnessOfFit {
+
+    // chi-square critical values at the 0.001 level, for 30, 62, 99 and 1023 degrees of freedom
+    static final double CHI_SQUARE_30 = 59.70;
+    static final double CHI_SQUARE_62 = 102.2;
+    static final double CHI_SQUARE_99 = 148.23;
+    static final double CHI_SQUARE_1023 = 1168.5;
+
+    private GoodnessOfFit() {
+    }
+
+    /** the chi-square statistic of the observed counts against the expected counts of the same bins */
+    static double chiSquare(long[] observed, double[] expected) {
+        double sum = 0;
+        for (int i = 0; i < observed.length; i++) {
+            sum += (observed[i] - expected[i]) * (observed[i] - expected[i]) / expected[i];
+        }
+        return sum;
+    }
+
+    /** the chi-square statistic of the observed counts against bins that all expect the same count */
+    static double chiSquare(long[] observed, double expected) {
+        double sum = 0;
+        for (long count : observed) {
+            sum += (count - expected) * (count - expected) / expected;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,119 @@
+package org.group8.distributions;
+
+import org.group8.simulator.statistics.StudentT;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.group8.distributions.GoodnessOfFit.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RejectionSamplerTest {
+
+    @Test
+    void testPoissonFollowsTheDistribution() {
+        int n = 200000;
+        // PTRS, with the bins 36 to 64 and the two tails
+        Poisson poisson = new Poisson(50, 11);
+        long[] observed = new long[31];
+        for (int i = 0; i < n; i++) {
+            observed[(int) Math.max(0, Math.min(30, poisson.sample() - 35))]++;
+        }
+        double[] expected = new double[31];
+        for (int k = 0; k <= 200; k++) {
+            double logLikelihood = -50 + k * Math.log(50) - logFactorial(k);
+            expected[Math.max(0, Math.min(30, k - 35))] += n * Math.exp(logLikelihood);
+        }
+        assertTrue(chiSquare(observed, expected) < CHI_SQUARE_30);
+
+        // means the product method cannot handle, as exp(-mean) underflows
+        assertMoments(new Poisson(1e7, 11), 1e7, 1e7, n);
+        assertMoments(new Poisson(1e12, 11), 1e12, 1e12, n);
+        assertMoments(new Poisson(3.5, 11), 3.5, 3.5, n);
+    }
+
+    @Test
+    void testBinomialFollowsTheDistribution() {
+        int n = 200000;
+        // BTPE, with the bins 271 to 331 and the two tails
+        Binomial binomial = new Binomial(0.3, 1000, 11);
+        long[] observed = new long[63];
+        for (int i = 0; i < n; i++) {
+            observed[(int) Math.max(0, Math.min(62, binomial.sample() - 270))]++;
+        }
+        double[] expected = new double[63];
+        for (int k = 0; k <= 1000; k++) {
+            double logLikelihood = logFactorial(1000) - logFactorial(k) - logFactorial(1000 - k)
+                    + k * Math.log(0.3) + (1000 - k) * Math.log(0.7);
+            expected[Math.max(0, Math.min(62, k - 270))] += n * Math.exp(logLikelihood);
+        }
+        assertTrue(chiSquare(observed, expected) < CHI_SQUARE_62);
+
+        // inversion, the upper half of the probabilities, and a number of trials a loop over them could not handle
+        assertMoments(new Binomial(0.05, 200, 11), 10, 9.5, n);
+        assertMoments(new Binomial(0.8, 1000, 11), 800, 160, n);
+        assertEquals(20, new Binomial(1.0, 20, 11).sample());
+    }
+
+    @Test
+    void testBinomialFollowsTheDistributionAtTheLargestNumberOfTrials() {
+        // at this size the binomial is normal to within far less than the sampling error, so the standardized
+        // samples are counted in 100 bins of equal normal probability
+        int n = 200000;
+        double trials = Integer.MAX_VALUE;
+        double mean = 0.4 * trials;
+        double sd = Math.sqrt(0.24 * trials);
+        double[] edges = new double[99];
+        for (int k = 1; k < 100; k++) {
+            edges[k - 1] = StudentT.normalQuantile(k / 100.0);
+        }
+        Binomial binomial = new Binomial(0.4, Integer.MAX_VALUE, 11);
+        long[] observed = new long[100];
+        for (int i = 0; i < n; i++) {
+            int bin = Arrays.binarySearch(edges, (binomial.sample() + 0.5 - mean) / sd);
+            observed[bin < 0 ? -bin - 1 : bin]++;
+        }
+        double[] expected = new double[100];
+        Arrays.fill(expected, n / 100.0);
+        assertTrue(chiSquare(observed, expected) < CHI_SQUARE_99);
+    }
+
+    @Test
+    void testGammaFamilyFollowsTheDistributions() {
+        int n = 200000;
+        assertMoments(new Gamma(2, 7.5, 11), 15, 30, n);
+        assertMoments(new Gamma(1, 1e6, 11), 1e6, 1e6, n);
+        assertMoments(new Gamma(3, 0.5, 11), 1.5, 4.5, n);
+        assertMoments(new Gamma(0.5, 3, 11), 1.5, 0.75, n);
+        assertMoments(new Erlang(40, 0.5, 11), 20, 10, n);
+        assertMoments(new Erlang(3, 2, 11), 6, 12, n);
+        assertMoments(new ChiSquare(1, 11), 1, 2, n);
+        assertMoments(new ChiSquare(30, 11), 30, 60, n);
+        assertMoments(new ChiSquare(100000, 11), 100000, 200000, n);
+        assertMoments(new Tstudent(50, 11), 0, 50.0 / 48, n);
+        assertMoments(new FDistribution(10, 40, 11), 40.0 / 38, 2 * 40.0 * 40 * 48 / (10 * 38 * 38 * 36), n);
+    }
+
+    /** the sample mean within five standard errors of the mean, and the sample variance within 5% of the variance */
+    private static void assertMoments(SampleGenerator generator, double mean, double variance, int n) {
+        double sum = 0, sumOfSquares = 0;
+        for (int i = 0; i < n; i++) {
+            double x = generator.sampleAsDouble() - mean;
+            sum += x;
+            sumOfSquares += x * x;
+        }
+        double sampleMean = sum / n;
+        double sampleVariance = (sumOfSquares - sum * sum / n) / (n - 1);
+        String name = generator.getClass().getSimpleName();
+        assertEquals(0, sampleMean, 5 * Math.sqrt(variance / n), name + " mean");
+        assertEquals(1, sampleVariance / variance, 0.05, name + " variance");
+    }
+
+    private static double logFactorial(int k) {
+        double sum = 0;
+        for (int i = 2; i <= k; i++) {
+            sum += Math.log(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,81 @@
+package org.group8.distributions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeedGeneratorTest {
+
+    @Test
+    void testJumpsMatchStepping() {
+        // the seeds of the generator are those found by drawing the spacing one number at a time
+        SeedGenerator seeds = new SeedGenerator(4851, 1000);
+        RandomGenerator lcg = new RandomGenerator(4851);
+        assertEquals(4851, seeds.sample());
+        for (int s = 0; s < 20; s++) {
+            for (int i = 0; i < 1000; i++) {
+                lcg.nextLong();
+            }
+            assertEquals(lcg.getSeed(), seeds.sample());
+        }
+        assertEquals(lcg.getSeed(), SeedGenerator.jump(4851, 20 * 1000));
+        assertEquals(4851, SeedGenerator.jump(4851, SeedGenerator.PERIOD));
+
+        SplitMix64 stepped = new SplitMix64(99);
+        SplitMix64 jumped = new SplitMix64(99);
+        for (int i = 0; i < 12345; i++) {
+            stepped.nextLong();
+        }
+        jumped.jump(12345);
+        assertEquals(stepped.nextLong(), jumped.nextLong());
+    }
+
+    @Test
+    void testSubstreamsStartAtTheirOffsets() {
+        long seed = 42;
+        ContinuousGenerator lcg = UniformSource.LCG.substream(seed, 3, 5);
+        long index = 3L * UniformSource.STREAMS_PER_REPLICATION + 5;
+        assertEquals(SeedGenerator.jump(seed, index * UniformSource.LCG_SUBSTREAM_LENGTH), lcg.getSeed());
+        assertThrows(IllegalArgumentException.class,
+                () -> UniformSource.LCG.substream(seed, UniformSource.LCG_MAX_REPLICATIONS, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> UniformSource.SPLITMIX64.substream(seed, 0, UniformSource.STREAMS_PER_REPLICATION));
+
+        // the substreams of every source are distinct and reproducible
+        for (UniformSource type : UniformSource.values()) {
+            Set<Double> firstDraws = new HashSet<>();
+            for (int replication = 0; replication < 4; replication++) {
+                for (int stream = 0; stream < UniformSource.STREAMS_PER_REPLICATION; stream++) {
+                    double draw = type.substream(seed, replication, stream).sample();
+                    assertTrue(firstDraws.add(draw), type + " repeats a substream");
+                    assertEquals(draw, type.substream(seed, replication, stream).sample());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testLcgSubstreamsDoNotRunIntoTheNextOne() {
+        ContinuousGenerator lcg = UniformSource.LCG.substream(42, 0, 0);
+        double[] draws = new double[(int) UniformSource.LCG_SUBSTREAM_LENGTH - 1];
+        lcg.fill(draws, 0, draws.length);
+        // the last draw of the substream is the seed the next one starts from
+        lcg.sample();
+        assertEquals(UniformSource.LCG.substream(42, 0, 1).getSeed(), lcg.getSeed());
+        assertThrows(IllegalStateException.class, lcg::sample);
+        double[] tooMany = new double[(int) UniformSource.LCG_SUBSTREAM_LENGTH + 1];
+        assertThrows(IllegalStateException.class, () -> UniformSource.LCG.substream(42, 0, 1).fill(tooMany, 0, tooMany.length));
+    }
+
+    @Test
+    void testDefaultSeedsAreUniqueAcrossThreads() {
+        Set<Long> seeds = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 10000).parallel().forEach(i -> assertTrue(seeds.add(SeedGenerator.nextDefaultSeed())));
+        assertEquals(10000, seeds.size());
+    }
+}
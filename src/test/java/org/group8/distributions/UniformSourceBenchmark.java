@@ -0,0 +1,42 @@
+package org.group8.distributions;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the uniform random number generators, alone and driving the exponential
+ * service times of the simulation. The LCG is the original {@link RandomGenerator}.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.openjdk.jmh.Main UniformSourceBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UniformSourceBenchmark {
+
+    @Param({"LCG", "SPLITMIX64", "L64X128MIX", "XOSHIRO256PP"})
+    private UniformSource source;
+
+    private ContinuousGenerator uniform;
+    private Negexp negexp;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        uniform = source.create(4851);
+        negexp = new Negexp(10, source.create(4851));
+    }
+
+    @Benchmark
+    public double uniform() {
+        return uniform.sample();
+    }
+
+    @Benchmark
+    public double negexp() {
+        return negexp.sample();
+    }
+}
@@ -0,0 +1,60 @@
+package org.group8.distributions;
+
+import org.junit.jupiter.api.Test;
+
+import static org.group8.distributions.GoodnessOfFit.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniformSourceTest {
+
+    @Test
+    void testSourcesPassUniformityAndSerialTests() {
+        int n = 1 << 20;
+        for (UniformSource type : UniformSource.values()) {
+            ContinuousGenerator source = type.create(12345);
+            long[] bins = new long[100];
+            long[][] pairs = new long[32][32];
+            double previous = source.sample();
+            for (int i = 0; i < n; i++) {
+                double u = source.sample();
+                assertTrue(u > 0 && u < 1, type + " sampled " + u);
+                bins[(int) (u * 100)]++;
+                pairs[(int) (previous * 32)][(int) (u * 32)]++;
+                previous = u;
+            }
+            assertTrue(chiSquare(bins, n / 100.0) < CHI_SQUARE_99, type + " is not uniform");
+
+            long[] flat = new long[32 * 32];
+            for (int i = 0; i < 32; i++) {
+                System.arraycopy(pairs[i], 0, flat, 32 * i, 32);
+            }
+            assertTrue(chiSquare(flat, n / 1024.0) < CHI_SQUARE_1023, type + " has correlated pairs");
+        }
+    }
+
+    @Test
+    void testSeedsReproduceTheSequence() {
+        for (UniformSource type : UniformSource.values()) {
+            ContinuousGenerator first = type.create(77);
+            ContinuousGenerator second = type.create(77);
+            double[] firstSamples = new double[100];
+            for (int i = 0; i < firstSamples.length; i++) {
+                firstSamples[i] = first.sample();
+                assertEquals(firstSamples[i], second.sample(), type.toString());
+            }
+            first.setSeed(77);
+            assertEquals(firstSamples[0], first.sample(), type.toString());
+            assertEquals(77, type.create(77).getSeed());
+        }
+    }
+
+    @Test
+    void testLcgDivisionFreeReductionKeepsTheSequence() {
+        RandomGenerator lcg = new RandomGenerator(1);
+        long seed = 1;
+        for (int i = 0; i < 1000000; i++) {
+            seed = (742938285L * seed) % 2147483647L;
+            assertEquals(seed, lcg.nextLong());
+        }
+    }
+}
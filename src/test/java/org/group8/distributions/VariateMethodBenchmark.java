@@ -0,0 +1,47 @@
+package org.group8.distributions;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Ziggurat method with the original transformations, the inverse transform of the exponential
+ * and the Box-Muller transform of the normal, with the original LCG and a 64-bit uniform generator.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.openjdk.jmh.Main VariateMethodBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VariateMethodBenchmark {
+
+    @Param({"ZIGGURAT", "TRANSFORM"})
+    private VariateMethod method;
+
+    @Param({"LCG", "SPLITMIX64"})
+    private UniformSource source;
+
+    private Negexp negexp;
+    private Normal normal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        negexp = new Negexp(10, source.create(4851));
+        negexp.setMethod(method);
+        normal = new Normal(10, 4, source.create(4851));
+        normal.setMethod(method);
+    }
+
+    @Benchmark
+    public double negexp() {
+        return negexp.sample();
+    }
+
+    @Benchmark
+    public double normal() {
+        return normal.sample();
+    }
+}
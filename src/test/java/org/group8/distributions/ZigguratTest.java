@@ -0,0 +1,105 @@
+package org.group8.distributions;
+
+import org.group8.simulator.statistics.StudentT;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.group8.distributions.GoodnessOfFit.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZigguratTest {
+
+    // two-sample Kolmogorov-Smirnov critical value at the 0.001 level, times sqrt(n)
+    private static final double KS_001 = 1.95 * Math.sqrt(2);
+
+    @Test
+    void testZigguratFollowsTheDistributions() {
+        int n = 1 << 20;
+        double[] normalEdges = new double[99];
+        for (int k = 1; k < 100; k++) {
+            normalEdges[k - 1] = StudentT.normalQuantile(k / 100.0);
+        }
+        for (UniformSource type : UniformSource.values()) {
+            Negexp negexp = new Negexp(1, type.create(2024));
+            Normal normal = new Normal(0, 1, type.create(2024));
+            long[] exponentialBins = new long[100];
+            long[] normalBins = new long[100];
+            int exponentialTail = 0;
+            int normalTail = 0;
+            for (int i = 0; i < n; i++) {
+                double x = negexp.sample();
+                exponentialBins[Math.min(99, (int) (-100 * Math.expm1(-x)))]++;
+                if (x > 7.69711747013104972) exponentialTail++;
+
+                double z = normal.sample();
+                int bin = Arrays.binarySearch(normalEdges, z);
+                normalBins[bin < 0 ? -bin - 1 : bin]++;
+                if (Math.abs(z) > 3.442619855899) normalTail++;
+            }
+            assertTrue(chiSquare(exponentialBins, n / 100.0) < CHI_SQUARE_99, type + ": exponential is off");
+            assertTrue(chiSquare(normalBins, n / 100.0) < CHI_SQUARE_99, type + ": normal is off");
+
+            // the tails beyond the base rectangles are sampled separately, and hold 4.5e-4 and 5.8e-4 of the mass
+            assertTail(n * Math.exp(-7.69711747013104972), exponentialTail, type + ": exponential tail");
+            assertTail(n * 5.7601e-4, normalTail, type + ": normal tail");
+        }
+    }
+
+    @Test
+    void testZigguratAgreesWithTheTransformations() {
+        int n = 100000;
+        for (UniformSource type : UniformSource.values()) {
+            Negexp ziggurat = new Negexp(3, type.create(99));
+            Negexp inverse = new Negexp(3, type.create(99));
+            inverse.setMethod(VariateMethod.TRANSFORM);
+            assertTrue(ks(ziggurat, inverse, n) < KS_001 / Math.sqrt(n), type + ": exponential differs");
+        }
+
+        LogNormal logZiggurat = new LogNormal(1, 0.5, 99);
+        LogNormal boxMuller = new LogNormal(1, 0.5, 99);
+        boxMuller.setMethod(VariateMethod.TRANSFORM);
+        assertTrue(ks(logZiggurat, boxMuller, n) < KS_001 / Math.sqrt(n), "lognormal differs");
+    }
+
+    @Test
+    void testTransformReproducesEarlierSamples() {
+        Negexp negexp = new Negexp(5, 31);
+        Normal normal = new Normal(2, 9, 31);
+        assertEquals(VariateMethod.ZIGGURAT, negexp.getMethod());
+        negexp.setMethod(VariateMethod.TRANSFORM);
+        normal.setMethod(VariateMethod.TRANSFORM);
+
+        RandomGenerator expected = new RandomGenerator(31);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(-5 * Math.log(expected.sample()), negexp.sample());
+        }
+        expected = new RandomGenerator(31);
+        for (int i = 0; i < 100; i++) {
+            double u1 = expected.sample(), u2 = expected.sample();
+            assertEquals(2 + 3 * Math.cos(2 * Math.PI * u1) * Math.sqrt(-2 * Math.log(u2)), normal.sample());
+        }
+    }
+
+    private static void assertTail(double expected, int observed, String message) {
+        assertTrue(Math.abs(observed - expected) < 5 * Math.sqrt(expected), message + ": " + observed + " for " + expected);
+    }
+
+    /** the two-sample Kolmogorov-Smirnov statistic of n samples of each generator */
+    private static double ks(SampleGenerator first, SampleGenerator second, int n) {
+        double[] a = new double[n];
+        double[] b = new double[n];
+        first.fill(a, 0, n);
+        second.fill(b, 0, n);
+        Arrays.sort(a);
+        Arrays.sort(b);
+        double max = 0;
+        int i = 0, j = 0;
+        while (i < n && j < n) {
+            if (a[i] <= b[j]) i++;
+            else j++;
+            max = Math.max(max, Math.abs(i - j) / (double) n);
+        }
+        return max;
+    }
+}
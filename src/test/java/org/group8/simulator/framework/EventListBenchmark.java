@@ -0,0 +1,64 @@
+package org.group8.simulator.framework;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the primitive {@link EventList} with the former {@code PriorityQueue<Event>} implementation
+ * in the hold model: every operation removes the earliest event and schedules a new one a random
+ * exponential time later, so the number of pending events stays constant.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.openjdk.jmh.Main EventListBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventListBenchmark {
+
+    private enum BenchmarkEventType implements IEventType { ARRIVAL, DEPARTURE }
+
+    @Param({"100", "10000", "1000000"})
+    private int pendingEvents;
+
+    private SplittableRandom random;
+    private EventList eventList;
+    private PriorityQueue<Event> priorityQueue;
+    private final Event reused = new Event(null, 0);
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Trace.setTraceLevel(Trace.Level.ERR);
+        random = new SplittableRandom(42);
+        eventList = new EventList();
+        priorityQueue = new PriorityQueue<>();
+        for (int i = 0; i < pendingEvents; i++) {
+            double time = nextDelay();
+            eventList.add(BenchmarkEventType.ARRIVAL, time);
+            priorityQueue.add(new Event(BenchmarkEventType.ARRIVAL, time));
+        }
+    }
+
+    private double nextDelay() {
+        return -Math.log(1.0 - random.nextDouble()) * 10;
+    }
+
+    @Benchmark
+    public double primitiveHeapHold() {
+        Event e = eventList.remove(reused);
+        eventList.add(BenchmarkEventType.DEPARTURE, e.getTime() + nextDelay());
+        return e.getTime();
+    }
+
+    @Benchmark
+    public double priorityQueueHold() {
+        Event e = priorityQueue.remove();
+        priorityQueue.add(new Event(BenchmarkEventType.DEPARTURE, e.getTime() + nextDelay()));
+        return e.getTime();
+    }
+}
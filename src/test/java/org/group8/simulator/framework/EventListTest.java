@@ -0,0 +1,133 @@
+package org.group8.simulator.framework;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventListTest {
+
+    private enum TestEventType implements IEventType { FIRST, SECOND }
+
+    private enum OtherEventType implements IEventType { OTHER }
+
+    private enum PrioritizedEventType implements IEventType {
+        LOW(2), HIGH(0), MEDIUM(1);
+
+        private final int priority;
+
+        PrioritizedEventType(int priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public int priority() {
+            return priority;
+        }
+    }
+
+    private enum InvalidEventType implements IEventType {
+        INVALID;
+
+        @Override
+        public int priority() {
+            return EventList.MAX_PRIORITY + 1;
+        }
+    }
+
+    private EventList eventList;
+
+    @BeforeEach
+    void setUp() {
+        eventList = new EventList();
+        Trace.setTraceLevel(Trace.Level.ERR);
+    }
+
+    @Test
+    void testEmptyList() {
+        assertTrue(eventList.isEmpty());
+        assertEquals(Double.MAX_VALUE, eventList.getNextTime());
+        assertThrows(IllegalStateException.class, () -> eventList.remove());
+    }
+
+    @Test
+    void testEventsAreRemovedInTimeOrder() {
+        for (EventQueueType type : EventQueueType.values()) {
+            eventList.setQueueType(type);
+            Random random = new Random(1);
+            double[] times = new double[1000];
+            for (int i = 0; i < times.length; i++) {
+                times[i] = random.nextDouble() * 100;
+                eventList.add(i % 2 == 0 ? TestEventType.FIRST : TestEventType.SECOND, times[i]);
+            }
+            Arrays.sort(times);
+
+            // the reused event receives the time and type of every removed event
+            Event reused = new Event(null, 0);
+            for (double time : times) {
+                assertEquals(time, eventList.getNextTime());
+                assertSame(reused, eventList.remove(reused));
+                assertEquals(time, reused.getTime());
+                assertNotNull(reused.getType());
+            }
+            assertTrue(eventList.isEmpty());
+        }
+    }
+
+    @Test
+    void testQueueTypeCannotChangeWithPendingEvents() {
+        eventList.add(TestEventType.FIRST, 1.0);
+
+        assertThrows(IllegalStateException.class, () -> eventList.setQueueType(EventQueueType.CALENDAR));
+        assertEquals(EventQueueType.HEAP, eventList.getQueueType());
+    }
+
+    @Test
+    void testEventTypeIsKept() {
+        eventList.add(new Event(TestEventType.SECOND, 2.0));
+        eventList.add(TestEventType.FIRST, 1.0);
+
+        assertEquals(2, eventList.size());
+        assertEquals(TestEventType.FIRST, eventList.remove().getType());
+        assertEquals(TestEventType.SECOND, eventList.remove().getType());
+    }
+
+    @Test
+    void testConflictingOrdinalsAreRejected() {
+        eventList.add(TestEventType.FIRST, 1.0);
+
+        assertThrows(IllegalArgumentException.class, () -> eventList.add(OtherEventType.OTHER, 2.0));
+    }
+
+    @Test
+    void testSimultaneousEventsAreOrderedByPriorityThenInsertion() {
+        for (EventQueueType type : EventQueueType.values()) {
+            EventList list = new EventList(type);
+            list.add(PrioritizedEventType.LOW, 5.0);
+            list.add(PrioritizedEventType.MEDIUM, 5.0);
+            list.add(PrioritizedEventType.HIGH, 5.0);
+            list.add(PrioritizedEventType.LOW, 5.0);
+            list.add(PrioritizedEventType.HIGH, 4.0);
+
+            Event event = new Event(null, 0);
+            assertEquals(PrioritizedEventType.HIGH, list.remove(event).getType());
+            assertEquals(4.0, event.getTime());
+            assertEquals(PrioritizedEventType.HIGH, list.remove(event).getType());
+            assertEquals(PrioritizedEventType.MEDIUM, list.remove(event).getType());
+
+            // equal priorities are removed in insertion order
+            assertEquals(PrioritizedEventType.LOW, list.remove(event).getType());
+            long first = event.getSequence();
+            assertEquals(PrioritizedEventType.LOW, list.remove(event).getType());
+            assertTrue(event.getSequence() > first, type.name());
+        }
+    }
+
+    @Test
+    void testInvalidPriorityIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> eventList.add(InvalidEventType.INVALID, 1.0));
+    }
+}
@@ -0,0 +1,55 @@
+package org.group8.simulator.framework;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link EventQueue} implementations in the classic hold model: every operation
+ * removes the earliest event and schedules a new one an exponentially distributed time later,
+ * so the number of pending events stays constant. The largest sizes need a heap of about 1 GB.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.openjdk.jmh.Main EventQueueBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class EventQueueBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int pendingEvents;
+
+    @Param({"HEAP", "CALENDAR"})
+    private EventQueueType queueType;
+
+    private SplittableRandom random;
+    private EventQueue queue;
+    private long order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        queue = queueType.create();
+        for (int i = 0; i < pendingEvents; i++) {
+            queue.add(nextDelay(), order++, i & 7, i);
+        }
+    }
+
+    private double nextDelay() {
+        return -Math.log(1.0 - random.nextDouble()) * 10;
+    }
+
+    @Benchmark
+    public double hold() {
+        double time = queue.nextTime();
+        int type = queue.nextType();
+        int payload = queue.nextPayload();
+        queue.removeNext();
+        queue.add(time + nextDelay(), order++, type, payload);
+        return time;
+    }
+}
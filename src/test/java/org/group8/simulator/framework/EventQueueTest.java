@@ -0,0 +1,111 @@
+package org.group8.simulator.framework;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventQueueTest {
+
+    @Test
+    void testEmptyQueues() {
+        for (EventQueueType type : EventQueueType.values()) {
+            EventQueue queue = type.create();
+            assertEquals(0, queue.size());
+            assertEquals(Double.MAX_VALUE, queue.nextTime());
+        }
+    }
+
+    @Test
+    void testRandomOperationsMatchReference() {
+        for (EventQueueType type : EventQueueType.values()) {
+            EventQueue queue = type.create();
+            PriorityQueue<Double> reference = new PriorityQueue<>();
+            Random random = new Random(5);
+            double now = 0;
+            long order = 0;
+
+            // grow to a large event set, hold it, then drain it, so that the calendar resizes both ways
+            for (int phase = 0; phase < 3; phase++) {
+                for (int i = 0; i < 20000; i++) {
+                    boolean add = phase == 0 ? random.nextInt(4) != 0 : phase == 1 ? random.nextBoolean() : random.nextInt(4) == 0;
+                    if (add || reference.isEmpty()) {
+                        double time = now + (random.nextInt(10) == 0 ? 0 : -Math.log(random.nextDouble()) * 5);
+                        queue.add(time, order++, 0, 0);
+                        reference.add(time);
+                    } else {
+                        assertEquals(reference.peek(), queue.nextTime(), type.name());
+                        now = reference.poll();
+                        queue.removeNext();
+                    }
+                    assertEquals(reference.size(), queue.size());
+                }
+            }
+            while (!reference.isEmpty()) {
+                assertEquals(reference.poll(), queue.nextTime(), type.name());
+                queue.removeNext();
+            }
+            assertEquals(Double.MAX_VALUE, queue.nextTime());
+        }
+    }
+
+    @Test
+    void testCalendarResizes() {
+        CalendarEventQueue queue = new CalendarEventQueue();
+        int initialBuckets = queue.getBucketCount();
+        for (int i = 0; i < 10000; i++) {
+            queue.add(i * 0.5, i, 1, 0);
+        }
+        assertTrue(queue.getBucketCount() > initialBuckets);
+        assertTrue(queue.getWidth() > 0);
+
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i * 0.5, queue.nextTime());
+            assertEquals(1, queue.nextType());
+            queue.removeNext();
+        }
+        assertEquals(initialBuckets, queue.getBucketCount());
+    }
+
+    @Test
+    void testEventsBeforeSweepPositionAreFound() {
+        CalendarEventQueue queue = new CalendarEventQueue();
+        queue.add(1000, 0, 0, 0);
+        assertEquals(1000, queue.nextTime());
+
+        // an earlier event added after the sweep has moved on must still come first
+        queue.add(3, 1, 1, 0);
+        assertEquals(3, queue.nextTime());
+        assertEquals(1, queue.nextType());
+    }
+
+    @Test
+    void testSimultaneousEventsAreOrderedByOrderKey() {
+        for (EventQueueType type : EventQueueType.values()) {
+            EventQueue queue = type.create();
+            Random random = new Random(11);
+            int count = 5000;
+            long[] orders = new long[count];
+            for (int i = 0; i < count; i++) {
+                orders[i] = random.nextLong() >>> 1;
+                // few distinct times, so that most events are simultaneous with others
+                queue.add(random.nextInt(20), orders[i], i, -i);
+            }
+
+            double previousTime = -1;
+            long previousOrder = -1;
+            for (int i = 0; i < count; i++) {
+                double time = queue.nextTime();
+                long order = queue.nextOrder();
+                assertTrue(time > previousTime || (time == previousTime && order > previousOrder), type.name());
+                assertEquals(orders[queue.nextType()], order, type.name());
+                assertEquals(-queue.nextType(), queue.nextPayload(), type.name());
+                previousTime = time;
+                previousOrder = order;
+                queue.removeNext();
+            }
+        }
+    }
+}
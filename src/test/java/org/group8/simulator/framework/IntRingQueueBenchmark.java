@@ -0,0 +1,77 @@
+package org.group8.simulator.framework;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link IntRingQueue} of patient indices used by the service points with queues of patient
+ * objects in a {@link LinkedList} and an {@link ArrayDeque}, at the queue depths seen in congested runs.
+ * Every operation adds one patient at the tail and removes one from the head, so the depth stays constant
+ * and the queue slides through its storage.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.openjdk.jmh.Main IntRingQueueBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntRingQueueBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    private int depth;
+
+    private IntRingQueue ringQueue;
+    private ArrayDeque<Object> arrayDeque;
+    private LinkedList<Object> linkedList;
+    private Object[] patients;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        patients = new Object[depth + 1];
+        ringQueue = new IntRingQueue();
+        arrayDeque = new ArrayDeque<>();
+        linkedList = new LinkedList<>();
+        for (int i = 0; i < patients.length; i++) {
+            patients[i] = new Object();
+        }
+        for (int i = 0; i < depth; i++) {
+            ringQueue.add(i);
+            arrayDeque.add(patients[i]);
+            linkedList.add(patients[i]);
+        }
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = next == depth ? 0 : next + 1;
+        return index;
+    }
+
+    private Object nextPatient() {
+        return patients[nextIndex()];
+    }
+
+    @Benchmark
+    public int ringQueue() {
+        ringQueue.add(nextIndex());
+        return ringQueue.poll();
+    }
+
+    @Benchmark
+    public Object arrayDeque() {
+        arrayDeque.add(nextPatient());
+        return arrayDeque.poll();
+    }
+
+    @Benchmark
+    public Object linkedList() {
+        linkedList.add(nextPatient());
+        return linkedList.poll();
+    }
+}
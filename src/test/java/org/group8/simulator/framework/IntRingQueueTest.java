@@ -0,0 +1,50 @@
+package org.group8.simulator.framework;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntRingQueueTest {
+
+    @Test
+    void testFifoOrderWhileWrappingAndGrowing() {
+        IntRingQueue queue = new IntRingQueue(4);
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+
+        // interleave adds and polls so that the head wraps around before and after the array grows
+        int next = 0;
+        for (int round = 0; round < 200; round++) {
+            for (int i = 0; i < 3 + round % 5; i++) {
+                queue.add(next);
+                expected.add(next);
+                next++;
+            }
+            for (int i = 0; i < 2 + round % 3; i++) {
+                assertEquals(expected.peek(), queue.peek());
+                assertEquals(expected.poll(), queue.poll());
+            }
+            assertEquals(expected.size(), queue.size());
+        }
+        while (!expected.isEmpty()) {
+            assertEquals(expected.poll(), queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+        assertThrows(IllegalStateException.class, queue::poll);
+        assertThrows(IllegalStateException.class, queue::peek);
+    }
+
+    @Test
+    void testClearAndInvalidArguments() {
+        IntRingQueue queue = new IntRingQueue();
+        queue.add(1);
+        queue.add(2);
+        queue.clear();
+        assertEquals(0, queue.size());
+        queue.add(3);
+        assertEquals(3, queue.poll());
+
+        assertThrows(IllegalArgumentException.class, () -> new IntRingQueue(-1));
+    }
+}
@@ -0,0 +1,63 @@
+package org.group8.simulator.framework;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutingTableTest {
+
+    @Test
+    void testSamplesFollowWeights() {
+        double[] weights = {5, 0, 1, 12, 0.5, 3, 7, 0.25, 2, 9};
+        RoutingTable table = new RoutingTable(weights);
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+
+        // evenly spaced uniform numbers give the exact probabilities up to the grid resolution
+        int samples = 1000000;
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < samples; i++) {
+            counts[table.sample((i + 0.5) / samples)]++;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / total, table.getProbability(i), 1e-12);
+            assertEquals(weights[i] / total, counts[i] / (double) samples, 1e-5, "outcome " + i);
+        }
+        assertEquals(0, counts[1]);
+    }
+
+    @Test
+    void testRandomWeights() {
+        Random random = new Random(3);
+        for (int n = 1; n < 50; n++) {
+            double[] weights = new double[n];
+            for (int i = 0; i < n; i++) {
+                weights[i] = random.nextDouble();
+            }
+            RoutingTable table = new RoutingTable(weights);
+            assertEquals(n, table.size());
+
+            // the probability mass of every outcome is spread over the columns
+            double[] mass = new double[n];
+            int samples = 100000;
+            for (int i = 0; i < samples; i++) {
+                mass[table.sample((i + 0.5) / samples)] += 1.0 / samples;
+            }
+            for (int i = 0; i < n; i++) {
+                assertEquals(table.getProbability(i), mass[i], 2e-4 * n);
+            }
+            assertTrue(table.sample(Math.nextDown(1.0)) < n);
+        }
+    }
+
+    @Test
+    void testInvalidWeightsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new RoutingTable(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new RoutingTable(new double[]{0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> new RoutingTable(new double[]{1, -1}));
+    }
+}
@@ -0,0 +1,54 @@
+package org.group8.simulator.framework;
+
+import org.group8.distributions.Erlang;
+import org.group8.distributions.Negexp;
+import org.group8.distributions.Normal;
+import org.group8.distributions.SampleGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares drawing service times one at a time through the {@link SampleGenerator} interface with drawing
+ * them from a {@link SampleBuffer}, for the distributions used by the stations of the simulation.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.openjdk.jmh.Main SampleBufferBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SampleBufferBenchmark {
+
+    @Param({"negexp", "normal", "erlang"})
+    private String distribution;
+
+    private SampleGenerator generator;
+    private SampleBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = create(distribution);
+        buffer = new SampleBuffer(create(distribution));
+    }
+
+    private static SampleGenerator create(String distribution) {
+        return switch (distribution) {
+            case "negexp" -> new Negexp(10, 4851);
+            case "normal" -> new Normal(10, 4, 4851);
+            default -> new Erlang(3, 4, 4851);
+        };
+    }
+
+    @Benchmark
+    public double scalar() {
+        return generator.sampleAsDouble();
+    }
+
+    @Benchmark
+    public double buffered() {
+        return buffer.next();
+    }
+}
@@ -0,0 +1,67 @@
+package org.group8.simulator.framework;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceTest {
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        // messages of earlier tests must not reach the appender
+        Trace.flush();
+        logger = (Logger) LoggerFactory.getLogger(Trace.class);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        Trace.setTraceLevel(Trace.Level.ERR);
+    }
+
+    @Test
+    void testDisabledMessagesAreNotBuilt() {
+        Trace.setTraceLevel(Trace.Level.WAR);
+
+        Trace.out(Trace.Level.INFO, () -> fail("the message of a disabled level must not be built"));
+        Trace.flush();
+
+        assertFalse(Trace.isEnabled(Trace.Level.INFO));
+        assertTrue(Trace.isEnabled(Trace.Level.ERR));
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void testEnabledMessagesAreWrittenInOrder() {
+        Trace.setTraceLevel(Trace.Level.INFO);
+
+        for (int i = 0; i < 100; i++) {
+            int number = i;
+            Trace.out(Trace.Level.INFO, () -> "message " + number);
+        }
+        Trace.out(Trace.Level.ERR, "error");
+        Trace.flush();
+
+        List<ILoggingEvent> events = appender.list;
+        assertEquals(101, events.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, events.get(i).getFormattedMessage());
+            assertEquals(ch.qos.logback.classic.Level.INFO, events.get(i).getLevel());
+        }
+        assertEquals(ch.qos.logback.classic.Level.ERROR, events.get(100).getLevel());
+    }
+}
@@ -0,0 +1,80 @@
+package org.group8.simulator.model;
+
+import org.group8.simulator.framework.Trace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatientStoreTest {
+
+    private PatientStatistics statistics;
+    private PatientStore patients;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = new PatientStatistics();
+        patients = new PatientStore(statistics);
+        Trace.setTraceLevel(Trace.Level.INFO);
+    }
+
+    @Test
+    public void testPatientArrival() {
+        int patient = patients.admit(10.0);
+
+        assertEquals(1, statistics.getTotalPatients());
+        assertEquals(1, patients.getId(patient));
+        assertEquals(10.0, patients.getArrivalTime(patient));
+        assertEquals(1, patients.size());
+    }
+
+    @Test
+    public void testReportCalculation() {
+        int patient = patients.admit(5.0);
+        patients.complete(patient, 20.0);
+
+        assertEquals(20.0, patients.getDepartureTime(patient));
+        assertEquals(15.0, statistics.getTotalTime());  // total time should be 15 (20 - 5)
+        assertEquals(1, statistics.getCompletedPatients());  // one patient should be completed
+        assertEquals(0, patients.size());
+    }
+
+    @Test
+    public void testWaitingAndServiceTimes() {
+        int patient = patients.admit(0.0);
+        patients.enterQueue(patient, 0.0);
+        patients.startService(patient, 3.0, 2);
+        assertEquals(2, patients.getServer(patient));
+        patients.endService(patient, 7.0);
+        patients.enterQueue(patient, 7.0);
+        patients.startService(patient, 8.5, 0);
+        patients.endService(patient, 9.0);
+
+        assertEquals(3.0 + 1.5, patients.getWaitingTime(patient), 1e-12);
+        assertEquals(4.0 + 0.5, patients.getServiceTime(patient), 1e-12);
+        assertEquals(-1, patients.getServer(patient));
+    }
+
+    @Test
+    public void testSlotsAreRecycled() {
+        // more patients than the initial capacity, all present at the same time
+        int[] slots = new int[100];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = patients.admit(i);
+        }
+        for (int i = 0; i < slots.length; i += 2) {
+            patients.complete(slots[i], 200.0);
+        }
+        int capacity = patients.getCapacity();
+
+        // new patients reuse the freed slots and get new IDs
+        for (int i = 0; i < 50; i++) {
+            int patient = patients.admit(300.0);
+            assertEquals(0, patients.getWaitingTime(patient));
+            assertEquals(101 + i, patients.getId(patient));
+        }
+        assertEquals(capacity, patients.getCapacity());
+        assertEquals(100, patients.size());
+        assertEquals(150, statistics.getTotalPatients());
+        assertEquals(50, statistics.getCompletedPatients());
+    }
+}
@@ -1,6 +1,8 @@
 package org.group8.simulator.model;
 
+import org.group8.simulator.framework.Clock;
 import org.group8.simulator.framework.Trace;
+import org.group8.simulator.framework.Event;
 import org.group8.simulator.framework.EventList;
 import org.group8.distributions.SampleGenerator;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,41 +16,51 @@ class ServicePointTest {
     private SampleGenerator mockGenerator;
     private EventList mockEventList;
     private EventType mockEventType;
-    private Patient mockPatient;
+    private PatientStore patients;
+    private int patient;
 
     @BeforeEach
     void setUp() {
         // use mock to simulate the dependencies
-        mockGenerator = mock(SampleGenerator.class);
+        // the default bulk fill of the interface calls the stubbed sampleAsDouble
+        mockGenerator = mock(SampleGenerator.class, CALLS_REAL_METHODS);
         mockEventList = mock(EventList.class);
         mockEventType = mock(EventType.class);
-        mockPatient = mock(Patient.class);
-        servicePoint = new ServicePoint(mockGenerator, mockEventList, mockEventType);
+        patients = new PatientStore(new PatientStatistics());
+        patient = patients.admit(0.0);
+        servicePoint = new ServicePoint(mockGenerator, mockEventList, mockEventType, new Clock(), patients);
         Trace.setTraceLevel(Trace.Level.INFO);
     }
 
     @Test
     void testAddToQueue() {
-        servicePoint.addToQueue(mockPatient);
+        servicePoint.addToQueue(patient);
         assertTrue(servicePoint.hasQueue());
     }
 
     @Test
-    void testRemoveFromQueue() {
-        servicePoint.addToQueue(mockPatient);
-        Patient removedPatient = servicePoint.removeFromQueue();
-        assertEquals(mockPatient, removedPatient);
+    void testEndService() {
+        when(mockGenerator.sampleAsDouble()).thenReturn(5.0);
+        servicePoint.addToQueue(patient);
+        servicePoint.startService();
         assertFalse(servicePoint.hasQueue());
+
+        Event departure = new Event(mockEventType, 5.0);
+        departure.setPayload(patient);
+        assertEquals(patient, servicePoint.endService(departure));
+        assertFalse(servicePoint.isBusy());
+        assertThrows(IllegalStateException.class, () -> servicePoint.endService(departure));
     }
 
     @Test
     void testStartService() {
         when(mockGenerator.sampleAsDouble()).thenReturn(5.0); // sample time returned by generator
-        servicePoint.addToQueue(mockPatient);
+        servicePoint.addToQueue(patient);
         servicePoint.startService();
 
         assertTrue(servicePoint.isBusy());
-        verify(mockEventList).add(any()); // verify that an event was added to the event list
+        verify(mockEventList).add(eq(mockEventType), anyDouble(), eq(patient)); // verify that an event was added to the event list for the patient
+        assertEquals(0, patients.getServer(patient));
     }
 
     @Test
@@ -60,7 +72,7 @@ class ServicePointTest {
     @Test
     void testIsBusy() {
         assertFalse(servicePoint.isBusy()); // initially not busy
-        servicePoint.addToQueue(mockPatient);
+        servicePoint.addToQueue(patient);
         servicePoint.startService();
         assertTrue(servicePoint.isBusy()); // busy after starting service
     }
@@ -68,7 +80,120 @@ class ServicePointTest {
     @Test
     void testHasQueue() {
         assertFalse(servicePoint.hasQueue()); // initially no queue
-        servicePoint.addToQueue(mockPatient);
+        servicePoint.addToQueue(patient);
         assertTrue(servicePoint.hasQueue()); // queue should be true after adding a patient
     }
+
+    @Test
+    void testMultipleServers() {
+        Clock clock = new Clock();
+        ServicePoint multiServer = new ServicePoint(mockGenerator, mockEventList, mockEventType, clock, patients, 3);
+        when(mockGenerator.sampleAsDouble()).thenReturn(5.0);
+        int[] slots = new int[4];
+        for (int i = 0; i < 4; i++) {
+            slots[i] = patients.admit(0.0);
+            multiServer.addToQueue(slots[i]);
+        }
+
+        // three patients are served in parallel, the fourth waits
+        for (int i = 0; i < 4; i++) {
+            multiServer.startService();
+        }
+        assertTrue(multiServer.isBusy());
+        assertTrue(multiServer.hasQueue());
+        assertEquals(3, multiServer.getBusyServerCount());
+        for (int i = 0; i < 3; i++) {
+            verify(mockEventList).add(eq(mockEventType), eq(5.0), eq(slots[i]));
+            assertEquals(i, patients.getServer(slots[i]));
+        }
+
+        // the freed server takes the waiting patient
+        clock.setTime(4.0);
+        assertEquals(slots[1], multiServer.endService(1));
+        assertFalse(multiServer.isBusy());
+        multiServer.startService();
+        verify(mockEventList).add(eq(mockEventType), eq(9.0), eq(slots[3]));
+        assertEquals(1, patients.getServer(slots[3]));
+        Event departed = new Event(mockEventType, 4.0);
+        departed.setPayload(slots[1]);
+        assertThrows(IllegalStateException.class, () -> multiServer.endService(departed));
+
+        // 3 busy servers for 4 time units, then 3 busy servers for 4 more
+        clock.setTime(8.0);
+        assertEquals(1.0, multiServer.getUtilizationRate(), 1e-12);
+        multiServer.endService(0);
+        clock.setTime(10.0);
+        assertEquals((24.0 + 2 * 2.0) / 30.0, multiServer.getUtilizationRate(), 1e-12);
+        assertEquals(8.0, multiServer.getServerBusyTime(0), 1e-12);
+        assertEquals(4.0 + 6.0, multiServer.getServerBusyTime(1), 1e-12);
+    }
+
+    @Test
+    void testEndServiceOfIdleServerIsRejected() {
+        ServicePoint multiServer = new ServicePoint(mockGenerator, mockEventList, mockEventType, new Clock(), patients, 2);
+        assertThrows(IllegalStateException.class, () -> multiServer.endService(1));
+        Event departure = new Event(mockEventType, 1.0);
+        departure.setPayload(patient);
+        assertThrows(IllegalStateException.class, () -> multiServer.endService(departure));
+        assertThrows(IllegalArgumentException.class, () -> new ServicePoint(mockGenerator, mockEventList, mockEventType, new Clock(), patients, 0));
+    }
+
+    @Test
+    void testServedPatientIsTheOneThatDeparts() {
+        Clock clock = new Clock();
+        EventList events = new EventList();
+        ServicePoint point = new ServicePoint(mockGenerator, events, EventType.DEP_LAB, clock, patients, 2);
+        when(mockGenerator.sampleAsDouble()).thenReturn(6.0, 2.0);
+        int first = patients.admit(0.0);
+        int second = patients.admit(0.0);
+        int third = patients.admit(0.0);
+        point.addToQueue(first);
+        point.addToQueue(second);
+        point.addToQueue(third);
+
+        clock.setTime(1.0);
+        point.startService();
+        point.startService();
+        assertEquals(1, point.getQueueLength()); // patients in service are not in the queue
+
+        // the second patient has the shorter service and departs first
+        Event departure = new Event(null, 0);
+        events.remove(departure);
+        clock.setTime(departure.getTime());
+        assertEquals(second, point.endService(departure));
+        assertEquals(1.0, patients.getWaitingTime(second), 1e-12);
+        assertEquals(2.0, patients.getServiceTime(second), 1e-12);
+        assertEquals(first, point.getPatientInService(0));
+        assertEquals(PatientStore.NO_PATIENT, point.getPatientInService(1));
+    }
+
+    @Test
+    void testQueueStatistics() {
+        Clock clock = new Clock();
+        ServicePoint point = new ServicePoint(mockGenerator, new EventList(), EventType.DEP_LAB, clock, patients, 1);
+        when(mockGenerator.sampleAsDouble()).thenReturn(4.0);
+
+        // three patients arrive at time 0 and are served one after the other
+        for (int i = 0; i < 3; i++) {
+            point.addToQueue(patients.admit(0.0));
+        }
+        point.startService();
+        for (double time = 4.0; time <= 12.0; time += 4.0) {
+            clock.setTime(time);
+            point.endService(0);
+            point.startService();
+        }
+
+        // waits of 0, 4 and 8; queue length 2 for 4 time units and 1 for 4 more
+        StationStatistics statistics = point.getStatistics();
+        assertEquals(3, point.getWaitingTimes().getCount());
+        assertEquals(4.0, statistics.getAverageWait(), 1e-12);
+        assertEquals(4.0, statistics.getWaitStdDev(), 1e-12);
+        assertEquals(8.0, statistics.getMaxWait(), 1e-12);
+        assertEquals(12.0 / 12.0, statistics.getAverageQueueLength(), 1e-12);
+        assertEquals(3, point.getMaxQueueLength());
+        assertEquals(3 / 12.0, statistics.getThroughput(), 1e-12);
+        assertEquals(4.0, statistics.getWaitP50(), 4.0 / 128);
+        assertEquals(8.0, statistics.getWaitP99(), 8.0 / 128);
+    }
 }
@@ -0,0 +1,93 @@
+package org.group8.simulator.model;
+
+import org.group8.controller.IDataControlller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SimulationConfigTest {
+
+    private Map<String, Distribution> distributions;
+    private Map<String, Double> probabilities;
+
+    @BeforeEach
+    void setUp() {
+        distributions = new HashMap<>();
+        for (String event : SimulationConfig.EVENTS) {
+            distributions.put(event, new Distribution(event, "negexp", 10));
+        }
+        probabilities = new HashMap<>();
+        probabilities.put("NO_TREATMENT", 0.1);
+        probabilities.put("LAB", 0.4);
+        probabilities.put("XRAY", 0.3);
+        probabilities.put("TREATMENT", 0.2);
+    }
+
+    @Test
+    void testConfigurationIsCopied() {
+        SimulationConfig config = new SimulationConfig(distributions, probabilities);
+        distributions.get("doctor").setAverageTime(99);
+        probabilities.put("LAB", 0.9);
+
+        assertEquals(10, config.getAverageTime("doctor"));
+        assertEquals("negexp", config.getDistributionType("doctor"));
+        assertEquals(0.4, config.getProbability(SimulationConfig.LAB));
+    }
+
+    @Test
+    void testRouteFollowsProbabilities() {
+        SimulationConfig config = new SimulationConfig(distributions, probabilities);
+
+        // evenly spaced uniform numbers hit every decision in proportion to its probability
+        int[] counts = new int[SimulationConfig.ROUTING_DECISIONS.length];
+        int samples = 100000;
+        for (int i = 0; i < samples; i++) {
+            counts[config.route((i + 0.5) / samples)]++;
+        }
+        assertEquals(0.1, counts[SimulationConfig.NO_TREATMENT] / (double) samples, 1e-4);
+        assertEquals(0.4, counts[SimulationConfig.LAB] / (double) samples, 1e-4);
+        assertEquals(0.3, counts[SimulationConfig.XRAY] / (double) samples, 1e-4);
+        assertEquals(0.2, counts[SimulationConfig.TREATMENT] / (double) samples, 1e-4);
+    }
+
+    @Test
+    void testMissingValuesAreRejected() {
+        probabilities.remove("XRAY");
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(distributions, probabilities));
+    }
+
+    @Test
+    void testLoadReadsDataControllerOnce() {
+        IDataControlller mockDataController = mock(IDataControlller.class);
+        distributions.forEach((event, distribution) -> when(mockDataController.getDistributionObject(event)).thenReturn(distribution));
+        probabilities.forEach((decision, probability) -> when(mockDataController.getProbability(decision)).thenReturn(probability));
+
+        SimulationConfig config = SimulationConfig.load(mockDataController);
+        for (int i = 0; i < 1000; i++) {
+            config.route(i / 1000.0);
+        }
+
+        verify(mockDataController, times(4)).getProbability(anyString());
+        verify(mockDataController, times(SimulationConfig.EVENTS.length)).getDistributionObject(anyString());
+        assertEquals(0.2, config.getProbability(SimulationConfig.TREATMENT));
+    }
+
+    @Test
+    void testSweptProbabilitiesAreRebalanced() {
+        SimulationConfig config = new SimulationConfig(distributions, probabilities);
+
+        SimulationConfig lab = config.with(Map.of("LAB", 0.5));
+        assertEquals(0.5, lab.getProbability(SimulationConfig.LAB), 1e-12);
+        assertEquals(0.1, lab.getProbability(SimulationConfig.TREATMENT), 1e-12);
+
+        SimulationConfig both = config.with(Map.of("LAB", 0.3, "TREATMENT", 0.3));
+        assertEquals(0.3, both.getProbability(SimulationConfig.TREATMENT), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> config.with(Map.of("LAB", 0.3, "TREATMENT", 0.2)));
+        assertThrows(IllegalArgumentException.class, () -> config.with(Map.of("XRAY", 0.6)));
+    }
+}
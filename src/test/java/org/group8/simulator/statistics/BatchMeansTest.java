@@ -0,0 +1,45 @@
+package org.group8.simulator.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchMeansTest {
+
+    @Test
+    void testBatchesAreMergedInPairs() {
+        BatchMeans batchMeans = new BatchMeans(2, 4, 10);
+        for (int b = 0; b < 8; b++) {
+            // series 0: sum and count of 10 observations equal to b; series 1: busy time b out of 10
+            batchMeans.addBatch(new double[]{10.0 * b, b}, new double[]{10, 10});
+        }
+        // the eighth batch merges the batches into four twice as large
+        assertEquals(4, batchMeans.getBatchCount());
+        assertEquals(20, batchMeans.getBatchSize());
+        assertEquals(0.5, batchMeans.getBatchMean(0, 0));
+        assertEquals(6.5, batchMeans.getBatchMean(0, 3));
+        assertEquals(0.65, batchMeans.getBatchMean(1, 3), 1e-12);
+        assertEquals(3.5, batchMeans.getConfidenceInterval(0, 0.95).getMean());
+
+        assertThrows(IllegalArgumentException.class, () -> new BatchMeans(1, 1, 10));
+    }
+
+    @Test
+    void testIntervalCoversTheMean() {
+        SplittableRandom random = new SplittableRandom(5);
+        BatchMeans batchMeans = new BatchMeans(1, 20, 50);
+        for (int b = 0; b < 30; b++) {
+            double sum = 0;
+            for (int i = 0; i < batchMeans.getBatchSize(); i++) {
+                sum += random.nextDouble(0, 10);
+            }
+            batchMeans.addBatch(new double[]{sum}, new double[]{batchMeans.getBatchSize()});
+        }
+        ConfidenceInterval interval = batchMeans.getConfidenceInterval(0, 0.95);
+        assertEquals(30, batchMeans.getBatchCount());
+        assertTrue(interval.getLower() < 5 && interval.getUpper() > 5, interval.toString());
+        assertTrue(interval.getRelativeHalfWidth() < 0.05);
+    }
+}
@@ -0,0 +1,47 @@
+package org.group8.simulator.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogHistogramTest {
+
+    @Test
+    void testQuantilesWithinRelativeError() {
+        SplittableRandom random = new SplittableRandom(3);
+        LogHistogram histogram = new LogHistogram();
+        double[] values = new double[200000];
+        for (int i = 0; i < values.length; i++) {
+            // exponential with mean 30, plus some exact zeros as for patients that never wait
+            values[i] = i % 10 == 0 ? 0 : -30 * Math.log(1 - random.nextDouble());
+            histogram.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[]{0.05, 0.25, 0.5, 0.9, 0.99, 0.999}) {
+            double exact = values[(int) Math.ceil(q * values.length) - 1];
+            double estimate = histogram.getQuantile(q);
+            assertEquals(exact, estimate, exact * 0x1.0p-7, "quantile " + q);
+        }
+        assertEquals(0.0, histogram.getQuantile(0.05));
+        assertEquals(values[values.length - 1], histogram.getQuantile(1.0));
+        assertEquals(values.length, histogram.getCount());
+    }
+
+    @Test
+    void testEmptyAndInvalidInput() {
+        LogHistogram histogram = new LogHistogram();
+        assertTrue(Double.isNaN(histogram.getQuantile(0.5)));
+        assertThrows(IllegalArgumentException.class, () -> histogram.add(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.add(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getQuantile(1.5));
+
+        histogram.add(7.0);
+        assertEquals(7.0, histogram.getQuantile(0.5));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+}
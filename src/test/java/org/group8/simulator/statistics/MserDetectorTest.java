@@ -0,0 +1,45 @@
+package org.group8.simulator.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MserDetectorTest {
+
+    @Test
+    void testTransientIsTruncated() {
+        SplittableRandom random = new SplittableRandom(8);
+        MserDetector detector = new MserDetector();
+
+        // a mean rising linearly from 0 to 50 over the first 500 observations, then noise around 50
+        int observations = 0;
+        while (!detector.isSteady()) {
+            double mean = Math.min(50, observations * 0.1);
+            detector.add(mean + random.nextDouble(-5, 5));
+            observations++;
+            assertTrue(observations < 100000, "no steady state detected");
+        }
+
+        // the output cannot be steady before the transient ends, and the truncation lies near its end
+        assertTrue(observations > 500, "detected after " + observations);
+        long truncation = detector.getTruncationObservations();
+        assertTrue(truncation > 350 && truncation < 700, "truncated at " + truncation);
+    }
+
+    @Test
+    void testBatchesAreMergedWhenFull() {
+        MserDetector detector = new MserDetector();
+        int completed = 0;
+        for (int i = 0; i < 1024 * MserDetector.BATCH_SIZE + 10; i++) {
+            if (detector.add(i % 7)) {
+                completed++;
+            }
+        }
+        assertEquals(1025, completed);
+        assertEquals(2 * MserDetector.BATCH_SIZE, detector.getBatchSize());
+        assertEquals(513, detector.getBatchCount());
+        assertTrue(detector.isSteady());
+    }
+}
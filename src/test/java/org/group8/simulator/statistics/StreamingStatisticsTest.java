@@ -0,0 +1,47 @@
+package org.group8.simulator.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingStatisticsTest {
+
+    @Test
+    void testRunningStatisticsMatchTwoPassResults() {
+        double[] values = {1e9 + 4, 1e9 + 7, 1e9 + 13, 1e9 + 16};
+        RunningStatistics statistics = new RunningStatistics();
+        for (double value : values) {
+            statistics.add(value);
+        }
+
+        // the large offset would ruin a naive sum of squares
+        assertEquals(4, statistics.getCount());
+        assertEquals(1e9 + 10, statistics.getMean(), 1e-6);
+        assertEquals(30.0, statistics.getVariance(), 1e-6);
+        assertEquals(1e9 + 4, statistics.getMin());
+        assertEquals(1e9 + 16, statistics.getMax());
+
+        statistics.reset();
+        assertEquals(0, statistics.getCount());
+        assertEquals(0, statistics.getVariance());
+        assertTrue(Double.isNaN(statistics.getMax()));
+    }
+
+    @Test
+    void testTimeWeightedMean() {
+        TimeWeightedStatistics queue = new TimeWeightedStatistics();
+        queue.update(2.0, 1);   // 0 from 0 to 2
+        queue.update(5.0, 3);   // 1 from 2 to 5
+        queue.update(6.0, 0);   // 3 from 5 to 6
+
+        // (0 * 2 + 1 * 3 + 3 * 1) / 10
+        assertEquals(0.6, queue.getMean(10.0), 1e-12);
+        assertEquals(3, queue.getMax());
+
+        // after a reset only the new period counts, starting from the current value
+        queue.update(8.0, 2);
+        queue.reset(8.0);
+        assertEquals(2.0, queue.getMean(12.0), 1e-12);
+        assertEquals(2, queue.getMax());
+    }
+}